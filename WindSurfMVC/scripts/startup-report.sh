@@ -0,0 +1,85 @@
+#!/usr/bin/env bash
+#
+# Measures startup-to-first-request time and resident set size of WindSurfMVC
+# in each startup mode and prints a report table.
+#
+# Modes:
+#   jvm           plain executable jar
+#   jvm-lazy      plain jar with the fast-startup profile (lazy init, deferred JPA bootstrap)
+#   aot-cds       AOT-processed jar, extracted, with a CDS archive and the fast-startup profile
+#   native        GraalVM native image (only when target/WindSurfMVC exists, mvn -Pnative native:compile)
+#
+# Usage: scripts/startup-report.sh [runs-per-mode]
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-5}"
+PORT="${PORT:-18080}"
+URL="http://localhost:${PORT}/api/v1/beers"
+JAR="target/WindSurfMVC-0.0.1-SNAPSHOT.jar"
+EXTRACTED="target/extracted"
+CDS_ARCHIVE="${EXTRACTED}/application.jsa"
+NATIVE="target/WindSurfMVC"
+
+echo "Building AOT-processed jar..."
+./mvnw -q -B -Paot -DskipTests package
+
+echo "Extracting jar and running the CDS training run..."
+rm -rf "${EXTRACTED}"
+java -Djarmode=tools -jar "${JAR}" extract --destination "${EXTRACTED}"
+java -XX:ArchiveClassesAtExit="${CDS_ARCHIVE}" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+    -jar "${EXTRACTED}/WindSurfMVC-0.0.1-SNAPSHOT.jar" --spring.profiles.active=fast-startup > /dev/null
+
+now_ms() {
+    date +%s%3N
+}
+
+# Starts the given command, waits for the first successful request and prints "<millis> <rss-kb>"
+measure() {
+    local start pid elapsed rss
+    start=$(now_ms)
+    "$@" --server.port="${PORT}" > /dev/null 2>&1 &
+    pid=$!
+    until curl -fs -o /dev/null "${URL}"; do
+        if ! kill -0 "${pid}" 2> /dev/null; then
+            echo "process exited before serving a request: $*" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    elapsed=$(( $(now_ms) - start ))
+    rss=$(ps -o rss= -p "${pid}" | tr -d ' ')
+    kill "${pid}"
+    wait "${pid}" 2> /dev/null || true
+    echo "${elapsed} ${rss}"
+}
+
+report() {
+    local mode=$1
+    shift
+    local total_ms=0 total_rss=0 best_ms=0 result ms rss
+    for _ in $(seq "${RUNS}"); do
+        result=$(measure "$@")
+        ms=${result% *}
+        rss=${result#* }
+        total_ms=$(( total_ms + ms ))
+        total_rss=$(( total_rss + rss ))
+        if [[ ${best_ms} -eq 0 || ${ms} -lt ${best_ms} ]]; then
+            best_ms=${ms}
+        fi
+    done
+    printf "%-10s %12d %12d %12d\n" "${mode}" $(( total_ms / RUNS )) "${best_ms}" $(( total_rss / RUNS / 1024 ))
+}
+
+printf "\n%-10s %12s %12s %12s\n" "mode" "avg ms" "best ms" "avg rss MB"
+report jvm java -jar "${JAR}"
+report jvm-lazy java -jar "${JAR}" --spring.profiles.active=fast-startup
+report aot-cds java -XX:SharedArchiveFile="${CDS_ARCHIVE}" -Dspring.aot.enabled=true \
+    -jar "${EXTRACTED}/WindSurfMVC-0.0.1-SNAPSHOT.jar" --spring.profiles.active=fast-startup
+if [[ -x "${NATIVE}" ]]; then
+    report native "${NATIVE}" --spring.profiles.active=fast-startup
+else
+    echo "native     skipped, build it with ./mvnw -Pnative native:compile"
+fi
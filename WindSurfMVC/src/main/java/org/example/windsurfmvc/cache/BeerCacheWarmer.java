@@ -0,0 +1,175 @@
+package org.example.windsurfmvc.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.windsurfmvc.dtos.BeerDto;
+import org.example.windsurfmvc.entities.Beer;
+import org.example.windsurfmvc.mappers.BeerMapper;
+import org.example.windsurfmvc.repositories.BeerRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Preloads the hottest beers into the caches and warms up the mapping and serialization
+ * code paths before the instance takes traffic.
+ * <p>
+ * Runs as an {@link ApplicationRunner}, so the readiness state stays at REFUSING_TRAFFIC
+ * until the warm-up completes or times out.
+ */
+@Slf4j
+@Component
+public class BeerCacheWarmer implements ApplicationRunner {
+
+    private final BeerRepository beerRepository;
+    private final BeerMapper beerMapper;
+    private final ObjectMapper objectMapper;
+    private final BeerResponseCache beerResponseCache;
+    private final Cache beerCache;
+    private final boolean enabled;
+    private final String hotKeysFile;
+    private final int topN;
+    private final int jitIterations;
+    private final Duration timeout;
+
+    public BeerCacheWarmer(BeerRepository beerRepository,
+                           BeerMapper beerMapper,
+                           ObjectMapper objectMapper,
+                           BeerResponseCache beerResponseCache,
+                           CacheManager cacheManager,
+                           @Value("${windsurf.warmup.enabled:true}") boolean enabled,
+                           @Value("${windsurf.warmup.hot-keys-file:}") String hotKeysFile,
+                           @Value("${windsurf.warmup.top-n:500}") int topN,
+                           @Value("${windsurf.warmup.jit-iterations:10000}") int jitIterations,
+                           @Value("${windsurf.warmup.timeout:30s}") Duration timeout) {
+        this.beerRepository = beerRepository;
+        this.beerMapper = beerMapper;
+        this.objectMapper = objectMapper;
+        this.beerResponseCache = beerResponseCache;
+        this.beerCache = cacheManager.getCache(CacheNames.BEERS);
+        this.enabled = enabled;
+        this.hotKeysFile = hotKeysFile;
+        this.topN = topN;
+        this.jitIterations = jitIterations;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        if (!enabled) {
+            log.info("Cache warm-up is disabled");
+            return;
+        }
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "cache-warmup"));
+        Future<?> warmUp = executor.submit(() -> {
+            warmUp();
+            return null;
+        });
+        try {
+            warmUp.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            log.info("Cache warm-up completed in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (TimeoutException e) {
+            warmUp.cancel(true);
+            log.warn("Cache warm-up timed out after {}, accepting traffic with a partially warm cache", timeout);
+        } catch (ExecutionException e) {
+            log.warn("Cache warm-up failed, accepting traffic with a cold cache", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    void warmUp() throws IOException {
+        int preloaded = preloadHotBeers();
+        log.debug("Preloaded {} beers into the caches", preloaded);
+        warmUpCodePaths();
+    }
+
+    private int preloadHotBeers() throws IOException {
+        List<UUID> hotKeys = readHotKeys();
+        List<Beer> beers = hotKeys.isEmpty()
+                ? beerRepository.findByOrderByUpdateDateDesc(PageRequest.of(0, topN))
+                : beerRepository.findAllById(hotKeys);
+
+        int preloaded = 0;
+        for (Beer beer : beers) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            BeerDto beerDto = beerMapper.beerToBeerDto(beer);
+            beerCache.put(beerDto.getId(), beerDto);
+            beerResponseCache.put(beerDto);
+            preloaded++;
+        }
+        return preloaded;
+    }
+
+    private List<UUID> readHotKeys() throws IOException {
+        List<UUID> hotKeys = new ArrayList<>();
+        if (hotKeysFile.isBlank() || !Files.isReadable(Path.of(hotKeysFile))) {
+            return hotKeys;
+        }
+        for (String line : Files.readAllLines(Path.of(hotKeysFile))) {
+            if (hotKeys.size() >= topN) {
+                break;
+            }
+            String key = line.strip();
+            if (key.isEmpty()) {
+                continue;
+            }
+            try {
+                hotKeys.add(UUID.fromString(key));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring invalid hot key '{}' in {}", key, hotKeysFile);
+            }
+        }
+        return hotKeys;
+    }
+
+    /**
+     * Run synthetic beers through the mapper and Jackson so the JIT compiles
+     * those paths before the first real requests arrive
+     */
+    private void warmUpCodePaths() throws IOException {
+        BeerDto synthetic = BeerDto.builder()
+                .id(UUID.randomUUID())
+                .beerName("Warm-up Beer")
+                .beerStyle("Lager")
+                .upc("000000000")
+                .quantityOnHand(1)
+                .price(new BigDecimal("1.00"))
+                .createdDate(LocalDateTime.now())
+                .updateDate(LocalDateTime.now())
+                .version(0)
+                .build();
+
+        for (int i = 0; i < jitIterations && !Thread.currentThread().isInterrupted(); i++) {
+            Beer beer = beerMapper.beerDtoToBeer(synthetic);
+            beer.setId(synthetic.getId());
+            beer.setCreatedDate(synthetic.getCreatedDate());
+            beer.setUpdateDate(synthetic.getUpdateDate());
+            byte[] json = objectMapper.writeValueAsBytes(beerMapper.beerToBeerDto(beer));
+            objectMapper.readValue(json, BeerDto.class);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.windsurfmvc.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.windsurfmvc.dtos.BeerDto;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Cache of serialized single-beer JSON responses, so a hit skips both the lookup and Jackson
+ */
+@Component
+public class BeerResponseCache {
+
+    private final Cache cache;
+    private final ObjectMapper objectMapper;
+
+    public BeerResponseCache(CacheManager cacheManager, ObjectMapper objectMapper) {
+        this.cache = cacheManager.getCache(CacheNames.BEER_RESPONSES);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Get the serialized response for a beer, loading and serializing it on a miss
+     *
+     * @param id     the ID of the beer
+     * @param loader loads the beer on a cache miss
+     * @return the beer serialized as JSON
+     */
+    public byte[] get(UUID id, Function<UUID, BeerDto> loader) {
+        byte[] cached = cache.get(id, byte[].class);
+        if (cached != null) {
+            return cached;
+        }
+        byte[] json = serialize(loader.apply(id));
+        cache.put(id, json);
+        return json;
+    }
+
+    /**
+     * Serialize a beer and store it in the cache
+     *
+     * @param beerDto the beer to cache
+     */
+    public void put(BeerDto beerDto) {
+        cache.put(beerDto.getId(), serialize(beerDto));
+    }
+
+    /**
+     * Remove a beer from the cache
+     *
+     * @param id the ID of the beer to remove
+     */
+    public void evict(UUID id) {
+        cache.evict(id);
+    }
+
+    private byte[] serialize(BeerDto beerDto) {
+        try {
+            return objectMapper.writeValueAsBytes(beerDto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize beer with id: " + beerDto.getId(), e);
+        }
+    }
+}
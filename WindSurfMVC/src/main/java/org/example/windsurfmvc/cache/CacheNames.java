@@ -0,0 +1,20 @@
+package org.example.windsurfmvc.cache;
+
+/**
+ * Names of the caches configured in application.properties
+ */
+public final class CacheNames {
+
+    /**
+     * Beer DTOs keyed by beer ID
+     */
+    public static final String BEERS = "beers";
+
+    /**
+     * Serialized JSON responses of single beers keyed by beer ID
+     */
+    public static final String BEER_RESPONSES = "beerResponses";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.windsurfmvc.cluster;
+
+import org.example.windsurfmvc.cache.BeerResponseCache;
+import org.example.windsurfmvc.cache.CacheNames;
+import org.example.windsurfmvc.events.BeerChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Evicts changed beers from the local caches once the change is committed and tells the
+ * rest of the cluster to do the same.
+ * <p>
+ * A read that loaded the old state before the commit can still put it into the cache after
+ * the eviction, so every eviction is repeated once after {@code re-evict-delay}. A stale entry
+ * then survives at most that long, as long as reads take less time than the delay. The bean
+ * is never lazy so it receives remote invalidations from startup on.
+ */
+@Component
+@Lazy(false)
+public class BeerCacheInvalidator {
+
+    private final Cache beerCache;
+    private final BeerResponseCache beerResponseCache;
+    private final InvalidationChannel invalidationChannel;
+    private final TaskScheduler taskScheduler;
+    private final Duration reEvictDelay;
+
+    public BeerCacheInvalidator(CacheManager cacheManager,
+                                BeerResponseCache beerResponseCache,
+                                InvalidationChannel invalidationChannel,
+                                TaskScheduler taskScheduler,
+                                @Value("${windsurf.cluster.invalidation.re-evict-delay:1s}") Duration reEvictDelay) {
+        this.beerCache = cacheManager.getCache(CacheNames.BEERS);
+        this.beerResponseCache = beerResponseCache;
+        this.invalidationChannel = invalidationChannel;
+        this.taskScheduler = taskScheduler;
+        this.reEvictDelay = reEvictDelay;
+        invalidationChannel.subscribe(this::evictTwice);
+    }
+
+    /**
+     * Evict a changed beer locally and broadcast the invalidation. Created beers are skipped,
+     * lookups of a missing beer are not cached so no node can hold an entry for them.
+     *
+     * @param event the committed change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBeerChanged(BeerChangedEvent event) {
+        if (event.type() == BeerChangedEvent.ChangeType.CREATED) {
+            return;
+        }
+        List<UUID> beerIds = List.of(event.beerId());
+        evictTwice(beerIds);
+        invalidationChannel.publish(beerIds);
+    }
+
+    private void evictTwice(Collection<UUID> beerIds) {
+        evict(beerIds);
+        if (reEvictDelay.isPositive()) {
+            List<UUID> ids = List.copyOf(beerIds);
+            taskScheduler.schedule(() -> evict(ids), Instant.now().plus(reEvictDelay));
+        }
+    }
+
+    private void evict(Collection<UUID> beerIds) {
+        for (UUID id : beerIds) {
+            beerCache.evict(id);
+            beerResponseCache.evict(id);
+        }
+    }
+}
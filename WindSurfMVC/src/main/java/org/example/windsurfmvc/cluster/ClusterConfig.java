@@ -0,0 +1,34 @@
+package org.example.windsurfmvc.cluster;
+
+import org.example.windsurfmvc.repositories.CacheInvalidationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Selects the cache invalidation channel.
+ * <p>
+ * The choice is made when the bean is created rather than with a conditional annotation,
+ * so an ahead-of-time processed build can still switch channels through configuration.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ClusterConfig {
+
+    @Bean
+    public InvalidationChannel invalidationChannel(
+            CacheInvalidationRepository cacheInvalidationRepository,
+            @Value("${windsurf.cluster.invalidation.channel:local}") String channel,
+            @Value("${windsurf.cluster.node-id:${random.uuid}}") String nodeId,
+            @Value("${windsurf.cluster.invalidation.page-size:1000}") int pageSize,
+            @Value("${windsurf.cluster.invalidation.settle-time:2s}") Duration settleTime,
+            @Value("${windsurf.cluster.invalidation.retention:1h}") Duration retention) {
+        return switch (channel) {
+            case "local" -> new LocalInvalidationChannel();
+            case "jdbc" -> new JdbcInvalidationChannel(cacheInvalidationRepository, nodeId, pageSize,
+                    settleTime, retention);
+            default -> throw new IllegalArgumentException("Unknown cache invalidation channel: " + channel);
+        };
+    }
+}
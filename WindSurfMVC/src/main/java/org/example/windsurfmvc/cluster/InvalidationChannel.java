@@ -0,0 +1,25 @@
+package org.example.windsurfmvc.cluster;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts beer cache invalidations between the instances of a cluster
+ */
+public interface InvalidationChannel {
+
+    /**
+     * Tell the other instances that beers changed; the local caches are evicted by the caller
+     *
+     * @param beerIds the IDs of the changed beers
+     */
+    void publish(Collection<UUID> beerIds);
+
+    /**
+     * Register a listener for invalidations published by other instances
+     *
+     * @param listener receives the IDs of the beers to evict
+     */
+    void subscribe(Consumer<Collection<UUID>> listener);
+}
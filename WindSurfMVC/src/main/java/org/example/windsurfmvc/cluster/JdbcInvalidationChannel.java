@@ -0,0 +1,143 @@
+package org.example.windsurfmvc.cluster;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.windsurfmvc.entities.CacheInvalidation;
+import org.example.windsurfmvc.repositories.CacheInvalidationRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Channel backed by a table that every instance appends to and polls.
+ * <p>
+ * Invalidations are buffered and written in batches. Rows are read in ID order after a
+ * cursor; because identity values are allocated before commit, a lower ID can become
+ * visible after a higher one, so the cursor only moves past a gap once it has stayed
+ * open for the settle time, however many rows follow it. A poll stops at the first gap
+ * that has not settled yet and reads the rows after it again once the gap is filled or
+ * abandoned, so invalidations behind an open gap are delayed by at most the settle time.
+ */
+@Slf4j
+public class JdbcInvalidationChannel implements InvalidationChannel {
+
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+    private final String nodeId;
+    private final int pageSize;
+    private final long settleMillis;
+    private final Duration retention;
+    private final ConcurrentLinkedQueue<UUID> pending = new ConcurrentLinkedQueue<>();
+    private final List<Consumer<Collection<UUID>>> listeners = new CopyOnWriteArrayList<>();
+    private final TreeMap<Long, Long> gapsSinceMillis = new TreeMap<>();
+
+    private long cursor = -1;
+
+    public JdbcInvalidationChannel(CacheInvalidationRepository cacheInvalidationRepository,
+                                   String nodeId, int pageSize, Duration settle, Duration retention) {
+        this.cacheInvalidationRepository = cacheInvalidationRepository;
+        this.nodeId = nodeId;
+        this.pageSize = pageSize;
+        this.settleMillis = settle.toMillis();
+        this.retention = retention;
+    }
+
+    @Override
+    public void publish(Collection<UUID> beerIds) {
+        pending.addAll(beerIds);
+    }
+
+    @Override
+    public void subscribe(Consumer<Collection<UUID>> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Write the buffered invalidations to the table
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${windsurf.cluster.invalidation.publish-interval:100ms}")
+    public void flush() {
+        Set<UUID> beerIds = new LinkedHashSet<>();
+        UUID beerId;
+        while ((beerId = pending.poll()) != null) {
+            beerIds.add(beerId);
+        }
+        if (beerIds.isEmpty()) {
+            return;
+        }
+        List<CacheInvalidation> rows = new ArrayList<>(beerIds.size());
+        for (UUID id : beerIds) {
+            rows.add(CacheInvalidation.builder().beerId(id).originNode(nodeId).build());
+        }
+        try {
+            cacheInvalidationRepository.saveAll(rows);
+        } catch (RuntimeException e) {
+            pending.addAll(beerIds);
+            log.warn("Failed to publish {} cache invalidations, retrying", beerIds.size(), e);
+        }
+    }
+
+    /**
+     * Apply the invalidations other instances wrote since the last poll
+     */
+    @Scheduled(fixedDelayString = "${windsurf.cluster.invalidation.poll-interval:500ms}")
+    public synchronized void poll() {
+        if (cursor < 0) {
+            Long maxId = cacheInvalidationRepository.findMaxId();
+            cursor = maxId == null ? 0 : maxId;
+            return;
+        }
+        List<CacheInvalidation> rows = cacheInvalidationRepository
+                .findByIdGreaterThanOrderById(cursor, PageRequest.of(0, pageSize));
+        long now = System.currentTimeMillis();
+        long previousId = cursor;
+        for (CacheInvalidation row : rows) {
+            // every gap in the page starts settling now, not only once the cursor reaches it
+            if (row.getId() > previousId + 1) {
+                gapsSinceMillis.putIfAbsent(previousId + 1, now);
+            }
+            previousId = row.getId();
+        }
+
+        Set<UUID> beerIds = new LinkedHashSet<>();
+        for (CacheInvalidation row : rows) {
+            if (row.getId() > cursor + 1 && now - gapsSinceMillis.get(cursor + 1) < settleMillis) {
+                break;
+            }
+            // either no gap, or the missing IDs belong to rolled back transactions
+            cursor = row.getId();
+            if (!nodeId.equals(row.getOriginNode())) {
+                beerIds.add(row.getBeerId());
+            }
+        }
+        gapsSinceMillis.headMap(cursor, true).clear();
+
+        if (!beerIds.isEmpty()) {
+            for (Consumer<Collection<UUID>> listener : listeners) {
+                listener.accept(beerIds);
+            }
+        }
+    }
+
+    /**
+     * Delete invalidations that every instance has had time to apply
+     */
+    @Scheduled(fixedRateString = "${windsurf.cluster.invalidation.retention:1h}",
+            initialDelayString = "${windsurf.cluster.invalidation.retention:1h}")
+    public void purge() {
+        int deleted = cacheInvalidationRepository.deleteByCreatedDateBefore(LocalDateTime.now().minus(retention));
+        log.debug("Purged {} cache invalidations", deleted);
+    }
+}
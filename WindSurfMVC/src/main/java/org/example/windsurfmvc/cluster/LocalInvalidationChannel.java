@@ -0,0 +1,19 @@
+package org.example.windsurfmvc.cluster;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Channel for a single instance, there is nobody else to tell
+ */
+public class LocalInvalidationChannel implements InvalidationChannel {
+
+    @Override
+    public void publish(Collection<UUID> beerIds) {
+    }
+
+    @Override
+    public void subscribe(Consumer<Collection<UUID>> listener) {
+    }
+}
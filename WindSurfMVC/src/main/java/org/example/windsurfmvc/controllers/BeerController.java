@@ -3,10 +3,14 @@ package org.example.windsurfmvc.controllers;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.windsurfmvc.cache.BeerResponseCache;
 import org.example.windsurfmvc.dtos.BeerDto;
+import org.example.windsurfmvc.dtos.BeerView;
 import org.example.windsurfmvc.dtos.ErrorResponse;
 import org.example.windsurfmvc.exceptions.ResourceNotFoundException;
 import org.example.windsurfmvc.services.BeerService;
+import org.example.windsurfmvc.tracking.HotKeyTracker;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -28,28 +32,43 @@ import java.util.UUID;
 public class BeerController {
 
     private final BeerService beerService;
+    private final BeerResponseCache beerResponseCache;
+    private final HotKeyTracker hotKeyTracker;
 
     /**
-     * Get all beers
+     * Get one page of beers
+     * <p>
+     * The list is always paged, without parameters it holds the first 100 beers. Paging
+     * metadata is returned in a {@code Link} header as described in {@link Paging}; clients
+     * fetching the whole catalog follow {@code rel="next"} until it is absent.
      *
-     * @return list of all beers
+     * @param page the page to fetch, starting at 0
+     * @param size the page size, at most 1000
+     * @return list of beers ordered by ID
      */
     @GetMapping
-    public ResponseEntity<List<BeerDto>> getAllBeers() {
-        log.debug("Received request to get all beers");
-        return ResponseEntity.ok(beerService.getAllBeers());
+    public ResponseEntity<List<BeerView>> getAllBeers(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + Paging.DEFAULT_PAGE_SIZE) int size) {
+        log.debug("Received request to get all beers, page: {}, size: {}", page, size);
+        PageRequest pageRequest = Paging.pageRequest(page, size);
+        hotKeyTracker.recordList();
+        return Paging.response(beerService.getBeerViews(pageRequest));
     }
 
     /**
      * Get a beer by ID
      *
      * @param id the ID of the beer to retrieve
-     * @return the beer with the given ID
+     * @return the beer with the given ID, served from the serialized response cache when possible
      */
     @GetMapping("/{id}")
-    public ResponseEntity<BeerDto> getBeerById(@PathVariable UUID id) {
+    public ResponseEntity<byte[]> getBeerById(@PathVariable UUID id) {
         log.debug("Received request to get beer with id: {}", id);
-        return ResponseEntity.ok(beerService.getBeerById(id));
+        hotKeyTracker.record(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(beerResponseCache.get(id, beerService::getBeerById));
     }
 
     /**
@@ -110,4 +129,18 @@ public class BeerController {
         ErrorResponse errorResponse = new ErrorResponse("Not Found", ex.getMessage());
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
+
+    /**
+     * Handle IllegalArgumentException
+     *
+     * @param ex the exception to handle
+     * @return error response with BAD_REQUEST status
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        log.error("Invalid beer request: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse("Bad Request", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
 }
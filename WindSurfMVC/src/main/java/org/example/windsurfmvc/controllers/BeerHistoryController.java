@@ -0,0 +1,104 @@
+package org.example.windsurfmvc.controllers;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.windsurfmvc.dtos.ErrorResponse;
+import org.example.windsurfmvc.dtos.PricePointDto;
+import org.example.windsurfmvc.exceptions.ResourceNotFoundException;
+import org.example.windsurfmvc.services.BeerPriceHistoryService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST controller for the price and stock history of beers
+ */
+@Slf4j
+@RestController
+@RequestMapping(
+    path = "/api/v1/beers",
+    produces = MediaType.APPLICATION_JSON_VALUE
+)
+@RequiredArgsConstructor
+public class BeerHistoryController {
+
+    private final BeerPriceHistoryService beerPriceHistoryService;
+
+    /**
+     * Get one page of the price and stock history of a beer
+     * <p>
+     * The history is paged like the beer list, see {@link Paging}: without parameters the
+     * response holds the first 100 changes, and a {@code Link} header points to the next page.
+     *
+     * @param id   the ID of the beer
+     * @param from the start of the range, the whole history when omitted
+     * @param to   the end of the range, now when omitted
+     * @param page the page to fetch, starting at 0
+     * @param size the number of changes per page, at most 1000
+     * @return the entry in effect at {@code from} (first page only) followed by the changes up to {@code to}
+     */
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<PricePointDto>> getPriceHistory(
+            @PathVariable UUID id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + Paging.DEFAULT_PAGE_SIZE) int size) {
+        log.debug("Received request to get price history of beer with id: {}", id);
+        PageRequest pageRequest = Paging.pageRequest(page, size);
+        return Paging.response(beerPriceHistoryService.getPriceHistory(id, from, to, pageRequest));
+    }
+
+    /**
+     * Get the price and stock of every beer as they were at a point in time
+     *
+     * @param asOf the point in time
+     * @param page the page to fetch, starting at 0
+     * @param size the page size, at most 1000
+     * @return one entry per beer that existed at that time, ordered by beer ID
+     */
+    @GetMapping(params = "asOf")
+    public ResponseEntity<List<PricePointDto>> getCatalogAsOf(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + Paging.DEFAULT_PAGE_SIZE) int size) {
+        log.debug("Received request to get catalog as of: {}", asOf);
+        PageRequest pageRequest = Paging.pageRequest(page, size);
+        return Paging.response(beerPriceHistoryService.getCatalogAsOf(asOf, pageRequest));
+    }
+
+    /**
+     * Handle ResourceNotFoundException
+     *
+     * @param ex the exception to handle
+     * @return error response with NOT_FOUND status
+     */
+    @ExceptionHandler(ResourceNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException ex) {
+        log.error("Resource not found: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse("Not Found", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Handle IllegalArgumentException
+     *
+     * @param ex the exception to handle
+     * @return error response with BAD_REQUEST status
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        log.error("Invalid history request: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse("Bad Request", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+}
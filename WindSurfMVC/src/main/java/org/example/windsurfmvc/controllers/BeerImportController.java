@@ -0,0 +1,105 @@
+package org.example.windsurfmvc.controllers;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.windsurfmvc.dtos.ErrorResponse;
+import org.example.windsurfmvc.dtos.ImportErrorDto;
+import org.example.windsurfmvc.dtos.ImportJobDto;
+import org.example.windsurfmvc.entities.ImportFormat;
+import org.example.windsurfmvc.exceptions.ResourceNotFoundException;
+import org.example.windsurfmvc.services.BeerImportService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST controller for asynchronous bulk beer imports
+ */
+@Slf4j
+@RestController
+@RequestMapping(
+    path = "/api/v1/beers/imports",
+    produces = MediaType.APPLICATION_JSON_VALUE
+)
+@RequiredArgsConstructor
+public class BeerImportController {
+
+    private final BeerImportService beerImportService;
+
+    /**
+     * Upload a CSV or NDJSON catalog file and import it in the background
+     *
+     * @param file   the catalog file
+     * @param format the file format, derived from the file name when omitted
+     * @return the queued import job
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobDto> startImport(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) ImportFormat format) {
+        log.debug("Received request to import file: {}", file.getOriginalFilename());
+        return ResponseEntity.accepted().body(beerImportService.startImport(file, format));
+    }
+
+    /**
+     * Get the progress of an import job
+     *
+     * @param jobId the ID of the import job
+     * @return the import job with progress, throughput and error counts
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobDto> getImportJob(@PathVariable UUID jobId) {
+        log.debug("Received request to get import job with id: {}", jobId);
+        return ResponseEntity.ok(beerImportService.getImportJob(jobId));
+    }
+
+    /**
+     * Get the rows an import job rejected
+     *
+     * @param jobId the ID of the import job
+     * @param page  the page to fetch, starting at 0
+     * @param size  the page size
+     * @return the rejected rows ordered by line number
+     */
+    @GetMapping("/{jobId}/errors")
+    public ResponseEntity<List<ImportErrorDto>> getImportErrors(
+            @PathVariable UUID jobId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        log.debug("Received request to get errors of import job with id: {}", jobId);
+        return ResponseEntity.ok(beerImportService.getImportErrors(jobId, page, size));
+    }
+
+    /**
+     * Handle ResourceNotFoundException
+     *
+     * @param ex the exception to handle
+     * @return error response with NOT_FOUND status
+     */
+    @ExceptionHandler(ResourceNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException ex) {
+        log.error("Resource not found: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse("Not Found", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Handle IllegalArgumentException
+     *
+     * @param ex the exception to handle
+     * @return error response with BAD_REQUEST status
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        log.error("Invalid import request: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse("Bad Request", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.windsurfmvc.controllers;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.windsurfmvc.dtos.ErrorResponse;
+import org.example.windsurfmvc.dtos.HotKeysResponse;
+import org.example.windsurfmvc.tracking.HotKeyTracker;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Admin REST controller exposing the beer access skew
+ */
+@Slf4j
+@RestController
+@RequestMapping(
+    path = "/api/v1/admin/hot-keys",
+    produces = MediaType.APPLICATION_JSON_VALUE
+)
+@RequiredArgsConstructor
+public class HotKeyController {
+
+    private final HotKeyTracker hotKeyTracker;
+
+    /**
+     * Get the current top-K beers with approximate access rates
+     *
+     * @param limit maximum number of beers to return, must be positive
+     * @return the hottest beers, hottest first
+     */
+    @GetMapping
+    public ResponseEntity<HotKeysResponse> getHotKeys(@RequestParam(defaultValue = "100") int limit) {
+        log.debug("Received request to get the top {} hot keys", limit);
+        return ResponseEntity.ok(new HotKeysResponse(
+                hotKeyTracker.getWindowSeconds(),
+                hotKeyTracker.getListRequests(),
+                hotKeyTracker.topKeys(limit)
+        ));
+    }
+
+    /**
+     * Handle IllegalArgumentException
+     *
+     * @param ex the exception to handle
+     * @return error response with BAD_REQUEST status
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        log.error("Invalid hot keys request: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse("Bad Request", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+}
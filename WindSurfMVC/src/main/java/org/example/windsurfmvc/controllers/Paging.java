@@ -0,0 +1,74 @@
+package org.example.windsurfmvc.controllers;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Paging rules shared by the list endpoints.
+ * <p>
+ * Lists are always paged. The body is the plain array of the page's entries; an RFC 8288
+ * {@code Link} header carries {@code rel="next"} while more entries follow and
+ * {@code rel="prev"} after the first page. No total count is returned, it would cost a count
+ * query over the whole table on every request.
+ */
+final class Paging {
+
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private Paging() {
+    }
+
+    /**
+     * Validate the paging parameters of a request
+     *
+     * @param page the page to fetch, starting at 0
+     * @param size the page size, between 1 and {@value #MAX_PAGE_SIZE}
+     * @return the page request
+     * @throws IllegalArgumentException if a parameter is out of range
+     */
+    static PageRequest pageRequest(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must be 0 or greater");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return PageRequest.of(page, size);
+    }
+
+    /**
+     * Build the response for one page of a list
+     *
+     * @param slice the page
+     * @return the page's entries with links to the neighbouring pages
+     */
+    static <T> ResponseEntity<List<T>> response(Slice<T> slice) {
+        List<String> links = new ArrayList<>(2);
+        if (slice.hasNext()) {
+            links.add(link(slice.getNumber() + 1, slice.getSize(), "next"));
+        }
+        if (slice.hasPrevious()) {
+            links.add(link(slice.getNumber() - 1, slice.getSize(), "prev"));
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!links.isEmpty()) {
+            response.header(HttpHeaders.LINK, String.join(", ", links));
+        }
+        return response.body(slice.getContent());
+    }
+
+    private static String link(int page, int size, String rel) {
+        String uri = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("page", page)
+                .replaceQueryParam("size", size)
+                .toUriString();
+        return "<" + uri + ">; rel=\"" + rel + "\"";
+    }
+}
@@ -25,6 +25,7 @@ public class BeerDto {
     private String beerName;
     
     @NotBlank(message = "Beer style is required")
+    @Size(max = 50, message = "Beer style must be at most 50 characters")
     private String beerStyle;
     
     @NotBlank(message = "UPC is required")
@@ -0,0 +1,67 @@
+package org.example.windsurfmvc.dtos;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.example.windsurfmvc.json.BeerViewSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Immutable read-path representation of a beer, serialized to the same JSON as {@link BeerDto}.
+ * <p>
+ * The price is kept as cents and the timestamps as microseconds since the epoch (wall-clock
+ * time taken as UTC), so a listing retains no BigDecimal or LocalDateTime per beer and
+ * {@link BeerViewSerializer} writes them without creating intermediate strings.
+ *
+ * @param id                 the ID of the beer
+ * @param beerName           the name of the beer
+ * @param beerStyle          the style of the beer
+ * @param upc                the UPC of the beer
+ * @param quantityOnHand     the quantity on hand
+ * @param priceCents         the price in cents
+ * @param createdEpochMicros creation time, or {@link #NO_TIMESTAMP}
+ * @param updateEpochMicros  last update time, or {@link #NO_TIMESTAMP}
+ * @param version            the entity version
+ */
+@JsonSerialize(using = BeerViewSerializer.class)
+public record BeerView(
+        UUID id,
+        String beerName,
+        String beerStyle,
+        String upc,
+        int quantityOnHand,
+        long priceCents,
+        long createdEpochMicros,
+        long updateEpochMicros,
+        Integer version
+) {
+
+    /**
+     * Marks a missing timestamp
+     */
+    public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    /**
+     * Creates a view from entity column values, used by JPQL constructor expressions
+     */
+    public BeerView(UUID id, String beerName, String beerStyle, String upc, Integer quantityOnHand,
+                    BigDecimal price, LocalDateTime createdDate, LocalDateTime updateDate, Integer version) {
+        this(id, beerName, beerStyle, upc, quantityOnHand, price.movePointRight(2).longValueExact(),
+                toEpochMicros(createdDate), toEpochMicros(updateDate), version);
+    }
+
+    /**
+     * Convert a timestamp to microseconds since the epoch, treating it as UTC
+     *
+     * @param dateTime the timestamp, may be null
+     * @return the microseconds since the epoch, or {@link #NO_TIMESTAMP} for null
+     */
+    public static long toEpochMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NO_TIMESTAMP;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.windsurfmvc.dtos;
+
+import java.util.UUID;
+
+/**
+ * Approximate access statistics of a single beer
+ *
+ * @param id               the ID of the beer
+ * @param lastMinuteCount  estimated accesses in the last minute
+ * @param lastMinuteRate   estimated accesses per second in the last minute
+ * @param windowCount      estimated accesses in the whole tracking window
+ * @param windowRate       estimated accesses per second in the whole tracking window
+ */
+public record HotKeyDto(
+        UUID id,
+        long lastMinuteCount,
+        double lastMinuteRate,
+        long windowCount,
+        double windowRate
+) {
+}
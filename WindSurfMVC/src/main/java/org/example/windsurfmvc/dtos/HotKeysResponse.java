@@ -0,0 +1,17 @@
+package org.example.windsurfmvc.dtos;
+
+import java.util.List;
+
+/**
+ * Current top-K beers by access rate
+ *
+ * @param windowSeconds length of the tracking window in seconds
+ * @param listRequests  number of list requests since startup
+ * @param keys          the hottest beers, hottest first
+ */
+public record HotKeysResponse(
+        long windowSeconds,
+        long listRequests,
+        List<HotKeyDto> keys
+) {
+}
@@ -0,0 +1,13 @@
+package org.example.windsurfmvc.dtos;
+
+/**
+ * A rejected row of a bulk import
+ *
+ * @param lineNumber the 1-based line number in the uploaded file
+ * @param message    why the row was rejected
+ */
+public record ImportErrorDto(
+        long lineNumber,
+        String message
+) {
+}
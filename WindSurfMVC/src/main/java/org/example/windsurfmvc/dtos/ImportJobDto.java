@@ -0,0 +1,37 @@
+package org.example.windsurfmvc.dtos;
+
+import lombok.*;
+import org.example.windsurfmvc.entities.ImportFormat;
+import org.example.windsurfmvc.entities.ImportJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object reporting the progress of a bulk import
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ImportJobDto {
+
+    private UUID id;
+    private ImportJobStatus status;
+    private ImportFormat format;
+    private String fileName;
+    private long totalBytes;
+    private long processedBytes;
+    private int progressPercent;
+    private long processedRows;
+    private long insertedRows;
+    private long updatedRows;
+    private long errorRows;
+    private double rowsPerSecond;
+    private String failureMessage;
+    private LocalDateTime createdDate;
+    private LocalDateTime startedDate;
+    private LocalDateTime finishedDate;
+}
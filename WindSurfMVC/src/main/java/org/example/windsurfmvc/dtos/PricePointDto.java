@@ -0,0 +1,23 @@
+package org.example.windsurfmvc.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Price and stock of a beer from a point in time until the next point
+ *
+ * @param beerId         the ID of the beer
+ * @param validFrom      when the values took effect
+ * @param price          the price
+ * @param quantityOnHand the quantity on hand
+ */
+public record PricePointDto(UUID beerId, LocalDateTime validFrom, BigDecimal price, int quantityOnHand) {
+
+    /**
+     * Creates a point from history column values, used by JPQL constructor expressions
+     */
+    public PricePointDto(UUID beerId, LocalDateTime validFrom, long priceCents, int quantityOnHand) {
+        this(beerId, validFrom, BigDecimal.valueOf(priceCents, 2), quantityOnHand);
+    }
+}
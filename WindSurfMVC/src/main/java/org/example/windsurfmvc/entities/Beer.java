@@ -11,8 +11,12 @@ import java.time.LocalDateTime;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.example.windsurfmvc.validation.BeerEntityValidation;
+import org.example.windsurfmvc.validation.BeerEntityValidation.Checks;
+import org.hibernate.annotations.Check;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.validator.group.GroupSequenceProvider;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -20,6 +24,10 @@ import java.util.UUID;
 
 /**
  * JPA Entity representing a Beer
+ * <p>
+ * The constraints are validated on flush unless {@link BeerEntityValidation} skips them for
+ * beers that were already validated as DTOs. Hibernate derives the schema from default group
+ * constraints only, so column lengths and checks are declared explicitly.
  */
 @Getter
 @Setter
@@ -28,6 +36,7 @@ import java.util.UUID;
 @Builder
 @Entity
 @Table(name = "beers")
+@GroupSequenceProvider(BeerEntityValidation.class)
 public class Beer {
     
     @Id
@@ -38,27 +47,28 @@ public class Beer {
     @Version
     private Integer version;
 
-    @NotBlank
-    @Size(max = 50)
-    @Column(nullable = false)
+    @NotBlank(groups = Checks.class)
+    @Size(max = 50, groups = Checks.class)
+    @Column(nullable = false, length = 50)
     private String beerName;
 
-    @NotBlank
-    @Size(max = 50)
-    @Column(nullable = false)
+    @NotBlank(groups = Checks.class)
+    @Size(max = 50, groups = Checks.class)
+    @Column(nullable = false, length = 50)
     private String beerStyle;
 
-    @NotBlank
-    @Size(max = 20)
-    @Column(unique = true, nullable = false, updatable = false)
+    @NotBlank(groups = Checks.class)
+    @Size(max = 20, groups = Checks.class)
+    @Column(unique = true, nullable = false, updatable = false, length = 20)
     private String upc;
 
-    @Min(0)
+    @Min(value = 0, groups = Checks.class)
+    @Check(constraints = "quantity_on_hand>=0")
     @Column(nullable = false)
     private Integer quantityOnHand;
 
-    @NotNull
-    @Positive
+    @NotNull(groups = Checks.class)
+    @Positive(groups = Checks.class)
     @Column(nullable = false, precision = 7, scale = 2)
     private BigDecimal price;
 
@@ -0,0 +1,47 @@
+package org.example.windsurfmvc.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity for an append-only price and stock history entry of a beer.
+ * <p>
+ * An entry is only written when the price or quantity differs from the previous one and
+ * stays in effect until the next entry, so consecutive unchanged updates cost nothing.
+ * Values are fixed-width integers and {@code period} (yyyyMM of {@code validFrom}) is the
+ * key to partition the table by on databases that support it.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "beer_price_history", indexes = {
+        @Index(name = "idx_beer_price_history_beer", columnList = "beerId, validFrom"),
+        @Index(name = "idx_beer_price_history_period", columnList = "period")
+})
+public class BeerPriceHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private UUID beerId;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime validFrom;
+
+    @Column(nullable = false, updatable = false)
+    private int period;
+
+    @Column(nullable = false, updatable = false)
+    private long priceCents;
+
+    @Column(nullable = false, updatable = false)
+    private int quantityOnHand;
+}
@@ -0,0 +1,62 @@
+package org.example.windsurfmvc.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity with one row per beer that ever existed, heading its price history.
+ * <p>
+ * Holds the latest values so a change can be detected without reading the history, and
+ * the lifetime of the beer so point-in-time queries can enumerate the catalog of any
+ * moment, including beers that were deleted since. The ID is assigned, so the entity tracks
+ * whether its row exists and saving a new series inserts it without selecting it first.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "beer_price_series")
+public class BeerPriceSeries implements Persistable<UUID> {
+
+    @Id
+    @Column(updatable = false, nullable = false)
+    private UUID beerId;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdDate;
+
+    private LocalDateTime deletedDate;
+
+    @Column(nullable = false)
+    private long lastPriceCents;
+
+    @Column(nullable = false)
+    private int lastQuantityOnHand;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
+    @Override
+    public UUID getId() {
+        return beerId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.windsurfmvc.entities;
+
+/**
+ * Supported bulk import file formats, both with one beer per line
+ */
+public enum ImportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,86 @@
+package org.example.windsurfmvc.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity tracking the progress of a bulk beer import.
+ * <p>
+ * Progress is updated in the same transaction as each imported batch, so
+ * {@code committedBatches} is always the point a restarted job resumes from. The instance
+ * running a job holds a lease on it that every committed batch renews; another instance
+ * only resumes the job once that lease has expired.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "import_jobs", indexes = @Index(name = "idx_import_jobs_status", columnList = "status"))
+public class ImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(updatable = false, nullable = false)
+    private UUID id;
+
+    @Version
+    private Integer version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImportJobStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 20)
+    private ImportFormat format;
+
+    @Column(nullable = false, updatable = false)
+    private String fileName;
+
+    @Column(length = 1000)
+    private String spoolPath;
+
+    @Column(nullable = false, updatable = false)
+    private int batchSize;
+
+    private long totalBytes;
+
+    private long processedBytes;
+
+    private long committedBatches;
+
+    private long processedRows;
+
+    private long insertedRows;
+
+    private long updatedRows;
+
+    private long errorRows;
+
+    @Column(length = 1000)
+    private String failureMessage;
+
+    @CreationTimestamp
+    @Column(updatable = false, nullable = false)
+    private LocalDateTime createdDate;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updateDate;
+
+    private LocalDateTime startedDate;
+
+    private LocalDateTime finishedDate;
+
+    @Column(length = 64)
+    private String ownerNode;
+
+    private LocalDateTime leaseExpiresAt;
+}
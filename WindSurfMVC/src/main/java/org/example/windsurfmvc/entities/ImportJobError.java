@@ -0,0 +1,32 @@
+package org.example.windsurfmvc.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * JPA Entity for a rejected row of a bulk import
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "import_job_errors", indexes = @Index(name = "idx_import_job_errors_job", columnList = "jobId, lineNumber"))
+public class ImportJobError {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private UUID jobId;
+
+    @Column(nullable = false, updatable = false)
+    private long lineNumber;
+
+    @Column(nullable = false, updatable = false, length = 1000)
+    private String message;
+}
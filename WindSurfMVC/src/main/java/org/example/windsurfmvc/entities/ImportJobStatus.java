@@ -0,0 +1,11 @@
+package org.example.windsurfmvc.entities;
+
+/**
+ * Lifecycle states of a bulk import job
+ */
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
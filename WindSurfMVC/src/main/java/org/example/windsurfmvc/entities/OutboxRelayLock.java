@@ -0,0 +1,31 @@
+package org.example.windsurfmvc.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity for the row the outbox relays of a cluster lock before each batch.
+ * <p>
+ * The lock is a row lock, so it is released when the holder commits, rolls back or loses its
+ * connection. The owner columns only record who held it last.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "outbox_relay_locks")
+public class OutboxRelayLock {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(length = 64)
+    private String owner;
+
+    private LocalDateTime lockedDate;
+}
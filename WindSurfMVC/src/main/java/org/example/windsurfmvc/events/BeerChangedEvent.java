@@ -0,0 +1,22 @@
+package org.example.windsurfmvc.events;
+
+import org.example.windsurfmvc.dtos.BeerDto;
+
+import java.util.UUID;
+
+/**
+ * Published inside the writing transaction whenever a beer is created, updated or deleted,
+ * by the single-beer service methods as well as by bulk imports.
+ *
+ * @param type   what happened to the beer
+ * @param beerId the ID of the beer
+ * @param beer   the state of the beer after the change, or before it for deletions
+ */
+public record BeerChangedEvent(ChangeType type, UUID beerId, BeerDto beer) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
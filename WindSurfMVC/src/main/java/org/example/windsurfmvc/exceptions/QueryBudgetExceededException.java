@@ -0,0 +1,7 @@
+package org.example.windsurfmvc.exceptions;
+
+public class QueryBudgetExceededException extends RuntimeException {
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
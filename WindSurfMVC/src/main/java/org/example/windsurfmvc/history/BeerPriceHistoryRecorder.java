@@ -0,0 +1,84 @@
+package org.example.windsurfmvc.history;
+
+import lombok.RequiredArgsConstructor;
+import org.example.windsurfmvc.dtos.BeerDto;
+import org.example.windsurfmvc.entities.BeerPriceHistory;
+import org.example.windsurfmvc.entities.BeerPriceSeries;
+import org.example.windsurfmvc.events.BeerChangedEvent;
+import org.example.windsurfmvc.repositories.BeerPriceHistoryRepository;
+import org.example.windsurfmvc.repositories.BeerPriceSeriesRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Appends to the price history of a beer in the transaction that changed it
+ */
+@Component
+@RequiredArgsConstructor
+public class BeerPriceHistoryRecorder {
+
+    private final BeerPriceSeriesRepository beerPriceSeriesRepository;
+    private final BeerPriceHistoryRepository beerPriceHistoryRepository;
+
+    /**
+     * Record the price and stock of a changed beer when they differ from the last entry
+     *
+     * @param event the change to record
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onBeerChanged(BeerChangedEvent event) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        switch (event.type()) {
+            // A new beer has no series yet, so there is nothing to look up
+            case CREATED -> startSeries(event.beer(), now);
+            case UPDATED -> {
+                BeerPriceSeries series = beerPriceSeriesRepository.findById(event.beerId()).orElse(null);
+                if (series == null) {
+                    startSeries(event.beer(), now);
+                    return;
+                }
+                long priceCents = priceCents(event.beer());
+                int quantityOnHand = event.beer().getQuantityOnHand();
+                if (series.getLastPriceCents() == priceCents && series.getLastQuantityOnHand() == quantityOnHand) {
+                    return;
+                }
+                series.setLastPriceCents(priceCents);
+                series.setLastQuantityOnHand(quantityOnHand);
+                beerPriceHistoryRepository.save(entry(event.beer(), now, priceCents, quantityOnHand));
+            }
+            case DELETED -> beerPriceSeriesRepository.findById(event.beerId())
+                    .ifPresent(series -> series.setDeletedDate(now));
+        }
+    }
+
+    private void startSeries(BeerDto beer, LocalDateTime now) {
+        long priceCents = priceCents(beer);
+        beerPriceSeriesRepository.save(BeerPriceSeries.builder()
+                .beerId(beer.getId())
+                .createdDate(now)
+                .lastPriceCents(priceCents)
+                .lastQuantityOnHand(beer.getQuantityOnHand())
+                .build());
+        beerPriceHistoryRepository.save(entry(beer, now, priceCents, beer.getQuantityOnHand()));
+    }
+
+    private static long priceCents(BeerDto beer) {
+        return beer.getPrice().movePointRight(2).longValueExact();
+    }
+
+    private static BeerPriceHistory entry(BeerDto beer, LocalDateTime validFrom, long priceCents, int quantityOnHand) {
+        return BeerPriceHistory.builder()
+                .beerId(beer.getId())
+                .validFrom(validFrom)
+                .period(validFrom.getYear() * 100 + validFrom.getMonthValue())
+                .priceCents(priceCents)
+                .quantityOnHand(quantityOnHand)
+                .build();
+    }
+}
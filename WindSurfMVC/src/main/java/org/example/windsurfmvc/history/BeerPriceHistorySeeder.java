@@ -0,0 +1,58 @@
+package org.example.windsurfmvc.history;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.windsurfmvc.repositories.BeerPriceHistoryRepository;
+import org.example.windsurfmvc.repositories.BeerPriceSeriesRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Starts the price history of beers that were stored before the history was recorded.
+ * <p>
+ * Their earlier prices are unknown, so the history begins with the current price and stock
+ * at the beer's last update. Beers that already have a series are left alone, which makes
+ * the seeding a single no-op statement per table on every later start.
+ */
+@Slf4j
+@Component
+public class BeerPriceHistorySeeder {
+
+    private final BeerPriceSeriesRepository beerPriceSeriesRepository;
+    private final BeerPriceHistoryRepository beerPriceHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public BeerPriceHistorySeeder(BeerPriceSeriesRepository beerPriceSeriesRepository,
+                                  BeerPriceHistoryRepository beerPriceHistoryRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.beerPriceSeriesRepository = beerPriceSeriesRepository;
+        this.beerPriceHistoryRepository = beerPriceHistoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Seed the history of every beer without a series
+     *
+     * @return the number of seeded beers
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public int seedMissingHistory() {
+        try {
+            Integer seeded = transactionTemplate.execute(status -> {
+                // Entries first, both statements select the beers that have no series yet
+                beerPriceHistoryRepository.seedMissingEntries();
+                return beerPriceSeriesRepository.seedMissingSeries();
+            });
+            if (seeded != null && seeded > 0) {
+                log.info("Seeded the price history of {} beers", seeded);
+            }
+            return seeded != null ? seeded : 0;
+        } catch (DataIntegrityViolationException e) {
+            log.info("Price history was seeded concurrently by another instance");
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package org.example.windsurfmvc.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.windsurfmvc.dtos.BeerDto;
+import org.example.windsurfmvc.entities.ImportFormat;
+import org.example.windsurfmvc.entities.ImportJob;
+import org.example.windsurfmvc.entities.ImportJobStatus;
+import org.example.windsurfmvc.repositories.ImportJobRepository;
+import org.example.windsurfmvc.validation.BeerDtoValidator;
+import org.example.windsurfmvc.validation.FieldViolation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Runs bulk imports in the background as a staged pipeline:
+ * <pre>
+ * reader --(raw batches)--&gt; N parsers --(parsed batches)--&gt; writer
+ * </pre>
+ * The reader splits the spooled upload into fixed-size line batches, parsers turn them into
+ * BeerDtos checked by {@link BeerDtoValidator} in parallel, and the writer upserts them
+ * strictly in file order, one transaction per batch. Queues between the stages are bounded
+ * and the number of batches in flight is capped, so memory use does not depend on the file size.
+ * <p>
+ * Because batches are committed in order together with the job's progress, a job that was
+ * interrupted by a restart resumes after its last committed batch. Jobs are leased by the
+ * instance running them (see {@link BeerImportWriter}); unfinished jobs are picked up at
+ * startup and then once per lease period, but only when their lease is free or has expired.
+ */
+@Slf4j
+@Component
+public class BeerImportPipeline {
+
+    private static final long POLL_MILLIS = 100;
+    private static final RawBatch END_OF_INPUT = new RawBatch(-1, 0, List.of(), 0);
+
+    private final ImportJobRepository importJobRepository;
+    private final BeerImportWriter beerImportWriter;
+    private final BeerDtoValidator beerDtoValidator;
+    private final ObjectMapper objectMapper;
+    private final int parallelism;
+    private final int queueCapacity;
+    private final int maxStoredErrors;
+    private final ExecutorService jobExecutor;
+    private final Set<UUID> submittedJobs = ConcurrentHashMap.newKeySet();
+
+    public BeerImportPipeline(ImportJobRepository importJobRepository,
+                              BeerImportWriter beerImportWriter,
+                              BeerDtoValidator beerDtoValidator,
+                              ObjectMapper objectMapper,
+                              @Value("${windsurf.import.parallelism:4}") int parallelism,
+                              @Value("${windsurf.import.queue-capacity:8}") int queueCapacity,
+                              @Value("${windsurf.import.max-stored-errors:1000}") int maxStoredErrors,
+                              @Value("${windsurf.import.max-concurrent-jobs:1}") int maxConcurrentJobs) {
+        this.importJobRepository = importJobRepository;
+        this.beerImportWriter = beerImportWriter;
+        this.beerDtoValidator = beerDtoValidator;
+        this.objectMapper = objectMapper;
+        this.parallelism = parallelism;
+        this.queueCapacity = queueCapacity;
+        this.maxStoredErrors = maxStoredErrors;
+        this.jobExecutor = Executors.newFixedThreadPool(maxConcurrentJobs, threadFactory("beer-import-job"));
+    }
+
+    /**
+     * Queue a job for execution, unless it is already queued or running on this instance
+     *
+     * @param jobId the ID of the job
+     */
+    public void submit(UUID jobId) {
+        if (!submittedJobs.add(jobId)) {
+            return;
+        }
+        try {
+            jobExecutor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    submittedJobs.remove(jobId);
+                }
+            });
+        } catch (RuntimeException e) {
+            submittedJobs.remove(jobId);
+            throw e;
+        }
+    }
+
+    /**
+     * Resume the unfinished jobs that no live instance holds a lease on: those left behind
+     * when this instance last stopped, and those of instances that stopped since
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${windsurf.import.lease:2m}", initialDelayString = "${windsurf.import.lease:2m}")
+    public void resumeUnfinishedJobs() {
+        for (ImportJob job : importJobRepository.findByStatusInOrderByCreatedDate(
+                List.of(ImportJobStatus.QUEUED, ImportJobStatus.RUNNING))) {
+            if (submittedJobs.contains(job.getId()) || beerImportWriter.isLeasedElsewhere(job)) {
+                continue;
+            }
+            if (job.getSpoolPath() != null && Files.exists(Path.of(job.getSpoolPath()))) {
+                log.info("Resuming import job {} after batch {}", job.getId(), job.getCommittedBatches());
+                submit(job.getId());
+            } else {
+                log.warn("Spool file of import job {} is not available on this instance, not resuming it", job.getId());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    private void run(UUID jobId) {
+        ImportJob job;
+        try {
+            Optional<ImportJob> started = beerImportWriter.start(jobId);
+            if (started.isEmpty()) {
+                log.info("Import job {} is finished or leased by another instance, not running it", jobId);
+                return;
+            }
+            job = started.get();
+        } catch (RuntimeException e) {
+            log.error("Failed to start import job {}", jobId, e);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            try {
+                new ImportRun(job).execute();
+                beerImportWriter.complete(jobId);
+                log.info("Import job {} completed in {} ms", jobId, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.info("Import job {} interrupted, it resumes from its last committed batch on restart", jobId);
+                return;
+            } catch (ImportLeaseLostException e) {
+                throw e;
+            } catch (Exception e) {
+                log.error("Import job {} failed", jobId, e);
+                beerImportWriter.fail(jobId, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            }
+        } catch (ImportLeaseLostException e) {
+            // The new owner reads the spool file, so it is left in place
+            log.warn("Stopped running import job {}: {}", jobId, e.getMessage());
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(Path.of(job.getSpoolPath()));
+        } catch (IOException e) {
+            log.warn("Failed to delete spool file {} of import job {}", job.getSpoolPath(), jobId, e);
+        }
+    }
+
+    private String validate(BeerDto beerDto) {
+        List<FieldViolation> violations = beerDtoValidator.validate(beerDto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(FieldViolation::toString)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Number of bytes a line takes in the UTF-8 encoded file, without its terminator
+     */
+    static long utf8Length(String line) {
+        long length = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < line.length()
+                    && Character.isLowSurrogate(line.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @FunctionalInterface
+    private interface Stage {
+        void run() throws Exception;
+    }
+
+    /**
+     * State of a single execution of a job
+     */
+    private final class ImportRun {
+
+        private final ImportJob job;
+        private final BlockingQueue<RawBatch> parseQueue = new ArrayBlockingQueue<>(queueCapacity);
+        private final BlockingQueue<ParsedBatch> writeQueue = new ArrayBlockingQueue<>(queueCapacity);
+        private final Semaphore batchesInFlight = new Semaphore(queueCapacity * 2 + parallelism);
+        private final AtomicReference<Exception> failure = new AtomicReference<>();
+        private volatile long totalBatches = -1;
+
+        private ImportRun(ImportJob job) {
+            this.job = job;
+        }
+
+        void execute() throws Exception {
+            ExecutorService workers = Executors.newFixedThreadPool(parallelism + 1, threadFactory("beer-import-worker"));
+            try (BufferedReader reader = Files.newBufferedReader(Path.of(job.getSpoolPath()), StandardCharsets.UTF_8)) {
+                BeerRecordParser parser = createParser(reader);
+                workers.execute(() -> guard(() -> read(reader)));
+                for (int i = 0; i < parallelism; i++) {
+                    workers.execute(() -> guard(() -> parse(parser)));
+                }
+                write();
+            } finally {
+                workers.shutdownNow();
+            }
+        }
+
+        private BeerRecordParser createParser(BufferedReader reader) throws IOException {
+            if (job.getFormat() == ImportFormat.NDJSON) {
+                return new NdjsonBeerRecordParser(objectMapper);
+            }
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV file has no header line");
+            }
+            return new CsvBeerRecordParser(header);
+        }
+
+        /**
+         * Reader stage: skips the committed batches and splits the rest of the file into raw batches
+         */
+        private void read(BufferedReader reader) throws Exception {
+            int batchSize = job.getBatchSize();
+            long lineNumber = job.getFormat() == ImportFormat.CSV ? 1 : 0;
+            long skipLines = job.getCommittedBatches() * batchSize;
+            for (long i = 0; i < skipLines && reader.readLine() != null; i++) {
+                lineNumber++;
+            }
+
+            long sequence = job.getCommittedBatches();
+            long firstLineNumber = lineNumber + 1;
+            long bytes = 0;
+            List<String> lines = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                lines.add(line);
+                bytes += utf8Length(line) + 1;
+                if (lines.size() == batchSize) {
+                    dispatch(new RawBatch(sequence++, firstLineNumber, lines, bytes));
+                    lines = new ArrayList<>(batchSize);
+                    firstLineNumber = lineNumber + 1;
+                    bytes = 0;
+                }
+            }
+            if (!lines.isEmpty()) {
+                dispatch(new RawBatch(sequence++, firstLineNumber, lines, bytes));
+            }
+            totalBatches = sequence;
+            for (int i = 0; i < parallelism; i++) {
+                offer(parseQueue, END_OF_INPUT);
+            }
+        }
+
+        private void dispatch(RawBatch batch) throws InterruptedException {
+            while (!batchesInFlight.tryAcquire(POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                checkFailure();
+            }
+            offer(parseQueue, batch);
+        }
+
+        /**
+         * Parser stage: parses and validates raw batches, rejecting single rows instead of the batch
+         */
+        private void parse(BeerRecordParser parser) throws Exception {
+            while (true) {
+                RawBatch raw = parseQueue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (raw == null) {
+                    checkFailure();
+                    continue;
+                }
+                if (raw == END_OF_INPUT) {
+                    return;
+                }
+
+                List<BeerDto> beers = new ArrayList<>(raw.lines().size());
+                List<RowError> errors = new ArrayList<>();
+                int rowCount = 0;
+                long lineNumber = raw.firstLineNumber();
+                for (String line : raw.lines()) {
+                    if (!line.isBlank()) {
+                        rowCount++;
+                        try {
+                            BeerDto beerDto = parser.parse(line);
+                            String violations = validate(beerDto);
+                            if (violations == null) {
+                                beers.add(beerDto);
+                            } else {
+                                errors.add(new RowError(lineNumber, violations));
+                            }
+                        } catch (ImportRowException e) {
+                            errors.add(new RowError(lineNumber, e.getMessage()));
+                        }
+                    }
+                    lineNumber++;
+                }
+                offer(writeQueue, new ParsedBatch(raw.sequence(), rowCount, raw.bytes(), beers, errors));
+            }
+        }
+
+        /**
+         * Writer stage: commits parsed batches in sequence order, buffering those that arrive early
+         */
+        private void write() throws Exception {
+            Map<Long, ParsedBatch> pending = new HashMap<>();
+            long next = job.getCommittedBatches();
+            while (totalBatches < 0 || next < totalBatches) {
+                Exception failed = failure.get();
+                if (failed != null) {
+                    throw failed;
+                }
+                ParsedBatch parsed = writeQueue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (parsed != null) {
+                    pending.put(parsed.sequence(), parsed);
+                }
+                ParsedBatch ready;
+                while ((ready = pending.remove(next)) != null) {
+                    beerImportWriter.writeBatch(job.getId(), ready, maxStoredErrors);
+                    batchesInFlight.release();
+                    next++;
+                }
+            }
+        }
+
+        private <T> void offer(BlockingQueue<T> queue, T item) throws InterruptedException {
+            while (!queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                checkFailure();
+            }
+        }
+
+        private void checkFailure() {
+            if (failure.get() != null) {
+                throw new IllegalStateException("Import job " + job.getId() + " aborted");
+            }
+        }
+
+        private void guard(Stage stage) {
+            try {
+                stage.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+    }
+}
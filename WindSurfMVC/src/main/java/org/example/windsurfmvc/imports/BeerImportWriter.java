@@ -0,0 +1,220 @@
+package org.example.windsurfmvc.imports;
+
+import org.example.windsurfmvc.dtos.BeerDto;
+import org.example.windsurfmvc.entities.Beer;
+import org.example.windsurfmvc.entities.ImportJob;
+import org.example.windsurfmvc.entities.ImportJobError;
+import org.example.windsurfmvc.entities.ImportJobStatus;
+import org.example.windsurfmvc.events.BeerChangedEvent;
+import org.example.windsurfmvc.events.BeerChangedEvent.ChangeType;
+import org.example.windsurfmvc.exceptions.ResourceNotFoundException;
+import org.example.windsurfmvc.mappers.BeerMapper;
+import org.example.windsurfmvc.repositories.BeerRepository;
+import org.example.windsurfmvc.repositories.ImportJobErrorRepository;
+import org.example.windsurfmvc.repositories.ImportJobRepository;
+import org.example.windsurfmvc.validation.BeerEntityValidation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Transactional steps of a bulk import: job state changes and batched upserts by UPC
+ * <p>
+ * A job is only written by the instance holding its lease. The lease is taken when the job
+ * starts and renewed with every committed batch; once it has expired another instance may
+ * take the job over, so the lease must comfortably exceed the time one batch takes, and the
+ * instances' clocks must roughly agree. Taking a lease bumps the job's version, so a batch
+ * of an instance that lost its lease in the meantime fails on commit instead of being counted twice.
+ */
+@Component
+public class BeerImportWriter {
+
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+
+    private final ImportJobRepository importJobRepository;
+    private final ImportJobErrorRepository importJobErrorRepository;
+    private final BeerRepository beerRepository;
+    private final BeerMapper beerMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId;
+    private final Duration lease;
+
+    public BeerImportWriter(ImportJobRepository importJobRepository,
+                            ImportJobErrorRepository importJobErrorRepository,
+                            BeerRepository beerRepository,
+                            BeerMapper beerMapper,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${windsurf.cluster.node-id:${random.uuid}}") String nodeId,
+                            @Value("${windsurf.import.lease:2m}") Duration lease) {
+        this.importJobRepository = importJobRepository;
+        this.importJobErrorRepository = importJobErrorRepository;
+        this.beerRepository = beerRepository;
+        this.beerMapper = beerMapper;
+        this.eventPublisher = eventPublisher;
+        this.nodeId = nodeId;
+        this.lease = lease;
+    }
+
+    /**
+     * Take the lease of a job and mark it as running
+     *
+     * @param jobId the ID of the job
+     * @return the job, including the number of batches already committed, or empty when
+     * the job is finished or another instance holds an unexpired lease on it
+     */
+    @Transactional
+    public Optional<ImportJob> start(UUID jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (importJobRepository.claim(jobId, nodeId, now, now.plus(lease)) == 0) {
+            return Optional.empty();
+        }
+        ImportJob job = findJob(jobId);
+        job.setStatus(ImportJobStatus.RUNNING);
+        job.setFailureMessage(null);
+        if (job.getStartedDate() == null) {
+            job.setStartedDate(now);
+        }
+        return Optional.of(job);
+    }
+
+    /**
+     * Whether another instance holds an unexpired lease on a job
+     *
+     * @param job the job
+     * @return true when another instance may still be running the job
+     */
+    public boolean isLeasedElsewhere(ImportJob job) {
+        return job.getOwnerNode() != null && !nodeId.equals(job.getOwnerNode())
+                && job.getLeaseExpiresAt() != null && job.getLeaseExpiresAt().isAfter(LocalDateTime.now());
+    }
+
+    /**
+     * Upsert a batch by UPC and advance the job's progress and lease in the same transaction
+     *
+     * @param jobId           the ID of the job
+     * @param batch           the batch to write, batches must be written in sequence order
+     * @param maxStoredErrors the number of rejected rows to keep per job, the rest are only counted
+     * @throws ImportLeaseLostException if another instance has taken the job over
+     */
+    @Transactional
+    public void writeBatch(UUID jobId, ParsedBatch batch, int maxStoredErrors) {
+        ImportJob job = findOwnedJob(jobId);
+        job.setLeaseExpiresAt(LocalDateTime.now().plus(lease));
+        if (batch.sequence() < job.getCommittedBatches()) {
+            return;
+        }
+
+        Map<String, BeerDto> beersByUpc = new LinkedHashMap<>();
+        for (BeerDto beerDto : batch.beers()) {
+            beersByUpc.put(beerDto.getUpc(), beerDto);
+        }
+        Map<String, Beer> existingByUpc = new HashMap<>();
+        for (Beer beer : beerRepository.findByUpcIn(beersByUpc.keySet())) {
+            existingByUpc.put(beer.getUpc(), beer);
+        }
+
+        List<Beer> inserted = new ArrayList<>();
+        List<Beer> updated = new ArrayList<>();
+        for (BeerDto beerDto : beersByUpc.values()) {
+            Beer existing = existingByUpc.get(beerDto.getUpc());
+            if (existing == null) {
+                inserted.add(beerMapper.beerDtoToBeer(beerDto));
+            } else {
+                beerMapper.updateBeerFromImportedDto(beerDto, existing);
+                updated.add(existing);
+            }
+        }
+        // Flushes the updated beers as well, so the published DTOs carry the new version and update date.
+        // The beers were validated as DTOs by the parsers, so the entity constraints are not checked again.
+        BeerEntityValidation.skipWhile(() -> beerRepository.saveAllAndFlush(inserted));
+        publishChanges(ChangeType.CREATED, inserted);
+        publishChanges(ChangeType.UPDATED, updated);
+
+        storeErrors(job, batch.errors(), maxStoredErrors);
+        job.setCommittedBatches(batch.sequence() + 1);
+        job.setProcessedBytes(job.getProcessedBytes() + batch.bytes());
+        job.setProcessedRows(job.getProcessedRows() + batch.rowCount());
+        job.setInsertedRows(job.getInsertedRows() + inserted.size());
+        job.setUpdatedRows(job.getUpdatedRows() + updated.size());
+        job.setErrorRows(job.getErrorRows() + batch.errors().size());
+    }
+
+    /**
+     * Mark a job as completed
+     *
+     * @param jobId the ID of the job
+     * @throws ImportLeaseLostException if another instance has taken the job over
+     */
+    @Transactional
+    public void complete(UUID jobId) {
+        ImportJob job = findOwnedJob(jobId);
+        job.setStatus(ImportJobStatus.COMPLETED);
+        job.setProcessedBytes(job.getTotalBytes());
+        job.setFinishedDate(LocalDateTime.now());
+    }
+
+    /**
+     * Mark a job as failed
+     *
+     * @param jobId   the ID of the job
+     * @param message why the job failed
+     * @throws ImportLeaseLostException if another instance has taken the job over
+     */
+    @Transactional
+    public void fail(UUID jobId, String message) {
+        ImportJob job = findOwnedJob(jobId);
+        job.setStatus(ImportJobStatus.FAILED);
+        job.setFailureMessage(truncate(message));
+        job.setFinishedDate(LocalDateTime.now());
+    }
+
+    private void publishChanges(ChangeType type, List<Beer> beers) {
+        for (Beer beer : beers) {
+            eventPublisher.publishEvent(new BeerChangedEvent(type, beer.getId(), beerMapper.beerToBeerDto(beer)));
+        }
+    }
+
+    private void storeErrors(ImportJob job, List<RowError> errors, int maxStoredErrors) {
+        long capacity = Math.max(0, maxStoredErrors - job.getErrorRows());
+        List<ImportJobError> stored = new ArrayList<>();
+        for (RowError error : errors) {
+            if (stored.size() >= capacity) {
+                break;
+            }
+            stored.add(ImportJobError.builder()
+                    .jobId(job.getId())
+                    .lineNumber(error.lineNumber())
+                    .message(truncate(error.message()))
+                    .build());
+        }
+        importJobErrorRepository.saveAll(stored);
+    }
+
+    private ImportJob findOwnedJob(UUID jobId) {
+        ImportJob job = findJob(jobId);
+        if (!nodeId.equals(job.getOwnerNode())) {
+            throw new ImportLeaseLostException("Import job " + jobId + " was taken over by instance " + job.getOwnerNode());
+        }
+        return job;
+    }
+
+    private ImportJob findJob(UUID jobId) {
+        return importJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import job not found with id: " + jobId));
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message;
+    }
+}
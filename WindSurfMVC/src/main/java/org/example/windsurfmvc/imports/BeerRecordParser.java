@@ -0,0 +1,18 @@
+package org.example.windsurfmvc.imports;
+
+import org.example.windsurfmvc.dtos.BeerDto;
+
+/**
+ * Parses a single line of an import file into a beer. Implementations must be thread-safe.
+ */
+public interface BeerRecordParser {
+
+    /**
+     * Parse a non-blank line
+     *
+     * @param line the line to parse
+     * @return the parsed beer, not yet validated
+     * @throws ImportRowException if the line is malformed
+     */
+    BeerDto parse(String line);
+}
@@ -0,0 +1,114 @@
+package org.example.windsurfmvc.imports;
+
+import org.example.windsurfmvc.dtos.BeerDto;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Parses CSV rows with a header line naming the columns. Quoted fields may contain
+ * separators and doubled quotes, but not line breaks.
+ */
+public class CsvBeerRecordParser implements BeerRecordParser {
+
+    private static final List<String> COLUMNS = List.of("beerName", "beerStyle", "upc", "quantityOnHand", "price");
+
+    private final int[] positions = new int[COLUMNS.size()];
+
+    /**
+     * @param header the header line of the file
+     * @throws IllegalArgumentException if the header lacks one of the required columns
+     */
+    public CsvBeerRecordParser(String header) {
+        List<String> names = split(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        Map<String, Integer> positionsByName = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            positionsByName.put(names.get(i).strip().toLowerCase(Locale.ROOT), i);
+        }
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            Integer position = positionsByName.get(COLUMNS.get(i).toLowerCase(Locale.ROOT));
+            if (position == null) {
+                throw new IllegalArgumentException("CSV header is missing column: " + COLUMNS.get(i));
+            }
+            positions[i] = position;
+        }
+    }
+
+    @Override
+    public BeerDto parse(String line) {
+        List<String> fields = split(line);
+        return BeerDto.builder()
+                .beerName(field(fields, 0))
+                .beerStyle(field(fields, 1))
+                .upc(field(fields, 2))
+                .quantityOnHand(parseInteger(field(fields, 3)))
+                .price(parseDecimal(field(fields, 4)))
+                .build();
+    }
+
+    private String field(List<String> fields, int column) {
+        int position = positions[column];
+        if (position >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(position).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Integer parseInteger(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new ImportRowException("Invalid quantityOnHand: '" + value + "'");
+        }
+    }
+
+    private static BigDecimal parseDecimal(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new ImportRowException("Invalid price: '" + value + "'");
+        }
+    }
+
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new ImportRowException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
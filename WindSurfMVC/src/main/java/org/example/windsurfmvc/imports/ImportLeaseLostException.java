@@ -0,0 +1,10 @@
+package org.example.windsurfmvc.imports;
+
+/**
+ * Thrown when another instance has taken over an import job, this instance stops running it
+ */
+public class ImportLeaseLostException extends IllegalStateException {
+    public ImportLeaseLostException(String message) {
+        super(message);
+    }
+}
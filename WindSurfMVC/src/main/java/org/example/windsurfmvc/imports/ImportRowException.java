@@ -0,0 +1,10 @@
+package org.example.windsurfmvc.imports;
+
+/**
+ * Thrown when a single import row cannot be parsed, the row is rejected and the import continues
+ */
+public class ImportRowException extends RuntimeException {
+    public ImportRowException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.windsurfmvc.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.example.windsurfmvc.dtos.BeerDto;
+
+/**
+ * Parses newline-delimited JSON, one BeerDto object per line.
+ * Server-managed fields in the input are ignored.
+ */
+public class NdjsonBeerRecordParser implements BeerRecordParser {
+
+    private final ObjectReader reader;
+
+    public NdjsonBeerRecordParser(ObjectMapper objectMapper) {
+        this.reader = objectMapper.readerFor(BeerDto.class);
+    }
+
+    @Override
+    public BeerDto parse(String line) {
+        BeerDto beerDto;
+        try {
+            beerDto = reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new ImportRowException("Malformed JSON: " + e.getOriginalMessage());
+        }
+        if (beerDto == null) {
+            throw new ImportRowException("Malformed JSON: expected an object");
+        }
+        beerDto.setId(null);
+        beerDto.setVersion(null);
+        beerDto.setCreatedDate(null);
+        beerDto.setUpdateDate(null);
+        return beerDto;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.windsurfmvc.imports;
+
+import org.example.windsurfmvc.dtos.BeerDto;
+
+import java.util.List;
+
+/**
+ * A batch of parsed and validated import rows, ready to be written
+ *
+ * @param sequence the position of the batch in the file, starting at 0
+ * @param rowCount the number of non-blank rows in the batch
+ * @param bytes    the approximate number of bytes the batch takes up in the file
+ * @param beers    the valid rows
+ * @param errors   the rejected rows
+ */
+public record ParsedBatch(long sequence, int rowCount, long bytes, List<BeerDto> beers, List<RowError> errors) {
+}
@@ -0,0 +1,14 @@
+package org.example.windsurfmvc.imports;
+
+import java.util.List;
+
+/**
+ * A batch of unparsed lines read from an import file
+ *
+ * @param sequence        the position of the batch in the file, starting at 0
+ * @param firstLineNumber the 1-based line number of the first line
+ * @param lines           the raw lines, including blank ones
+ * @param bytes           the approximate number of bytes the lines take up in the file
+ */
+record RawBatch(long sequence, long firstLineNumber, List<String> lines, long bytes) {
+}
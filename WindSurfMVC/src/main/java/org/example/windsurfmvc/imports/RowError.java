@@ -0,0 +1,10 @@
+package org.example.windsurfmvc.imports;
+
+/**
+ * A row rejected while parsing or validating an import batch
+ *
+ * @param lineNumber the 1-based line number in the uploaded file
+ * @param message    why the row was rejected
+ */
+public record RowError(long lineNumber, String message) {
+}
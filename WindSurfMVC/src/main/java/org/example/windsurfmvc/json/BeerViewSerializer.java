@@ -0,0 +1,197 @@
+package org.example.windsurfmvc.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.example.windsurfmvc.dtos.BeerView;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * Writes a {@link BeerView} as the same JSON Jackson produces for a BeerDto, formatting the
+ * ID, price and timestamps into a reused per-thread buffer instead of allocating a String
+ * for each of them.
+ * <p>
+ * Prices are written with two fraction digits like the DECIMAL(7,2) column they come from,
+ * and timestamps like {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}.
+ */
+public class BeerViewSerializer extends StdSerializer<BeerView> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString BEER_NAME = new SerializedString("beerName");
+    private static final SerializableString BEER_STYLE = new SerializedString("beerStyle");
+    private static final SerializableString UPC = new SerializedString("upc");
+    private static final SerializableString QUANTITY_ON_HAND = new SerializedString("quantityOnHand");
+    private static final SerializableString PRICE = new SerializedString("price");
+    private static final SerializableString CREATED_DATE = new SerializedString("createdDate");
+    private static final SerializableString UPDATE_DATE = new SerializedString("updateDate");
+    private static final SerializableString VERSION = new SerializedString("version");
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[64]);
+
+    public BeerViewSerializer() {
+        super(BeerView.class);
+    }
+
+    @Override
+    public void serialize(BeerView beer, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        char[] buffer = BUFFER.get();
+        gen.writeStartObject(beer);
+
+        gen.writeFieldName(ID);
+        if (beer.id() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(buffer, 0, writeUuid(beer.id(), buffer));
+        }
+        gen.writeFieldName(BEER_NAME);
+        gen.writeString(beer.beerName());
+        gen.writeFieldName(BEER_STYLE);
+        gen.writeString(beer.beerStyle());
+        gen.writeFieldName(UPC);
+        gen.writeString(beer.upc());
+        gen.writeFieldName(QUANTITY_ON_HAND);
+        gen.writeNumber(beer.quantityOnHand());
+        gen.writeFieldName(PRICE);
+        gen.writeNumber(buffer, 0, writeCents(beer.priceCents(), buffer));
+        gen.writeFieldName(CREATED_DATE);
+        writeTimestamp(gen, beer.createdEpochMicros(), buffer);
+        gen.writeFieldName(UPDATE_DATE);
+        writeTimestamp(gen, beer.updateEpochMicros(), buffer);
+        gen.writeFieldName(VERSION);
+        if (beer.version() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(beer.version());
+        }
+
+        gen.writeEndObject();
+    }
+
+    private static void writeTimestamp(JsonGenerator gen, long epochMicros, char[] buffer) throws IOException {
+        if (epochMicros == BeerView.NO_TIMESTAMP) {
+            gen.writeNull();
+        } else {
+            gen.writeString(buffer, 0, formatTimestamp(epochMicros, buffer));
+        }
+    }
+
+    static int writeUuid(UUID id, char[] buffer) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        writeHex(msb >>> 32, 8, buffer, 0);
+        buffer[8] = '-';
+        writeHex(msb >>> 16, 4, buffer, 9);
+        buffer[13] = '-';
+        writeHex(msb, 4, buffer, 14);
+        buffer[18] = '-';
+        writeHex(lsb >>> 48, 4, buffer, 19);
+        buffer[23] = '-';
+        writeHex(lsb, 12, buffer, 24);
+        return 36;
+    }
+
+    private static void writeHex(long value, int digits, char[] buffer, int offset) {
+        for (int i = digits - 1; i >= 0; i--) {
+            buffer[offset + i] = HEX_DIGITS[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    static int writeCents(long cents, char[] buffer) {
+        int pos = 0;
+        long abs = cents;
+        if (cents < 0) {
+            buffer[pos++] = '-';
+            abs = -cents;
+        }
+        pos = writeDecimal(abs / 100, buffer, pos);
+        int fraction = (int) (abs % 100);
+        buffer[pos++] = '.';
+        buffer[pos++] = (char) ('0' + fraction / 10);
+        buffer[pos++] = (char) ('0' + fraction % 10);
+        return pos;
+    }
+
+    private static int writeDecimal(long value, char[] buffer, int pos) {
+        if (value == 0) {
+            buffer[pos] = '0';
+            return pos + 1;
+        }
+        int digits = 0;
+        for (long v = value; v > 0; v /= 10) {
+            digits++;
+        }
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + digits;
+    }
+
+    /**
+     * Format microseconds since the epoch like ISO_LOCAL_DATE_TIME: seconds are always
+     * written, the fraction only when non-zero and without trailing zeros
+     */
+    static int formatTimestamp(long epochMicros, char[] buffer) {
+        long epochSecond = Math.floorDiv(epochMicros, 1_000_000L);
+        int micros = (int) Math.floorMod(epochMicros, 1_000_000L);
+        long epochDay = Math.floorDiv(epochSecond, 86_400L);
+        int secondOfDay = (int) Math.floorMod(epochSecond, 86_400L);
+
+        // Days to civil date, see http://howardhinnant.github.io/date_algorithms.html#civil_from_days
+        long z = epochDay + 719_468;
+        long era = Math.floorDiv(z, 146_097L);
+        long dayOfEra = z - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        if (year < 0 || year > 9999) {
+            // Signed and expanded years are rare enough to use the JDK formatter
+            String formatted = LocalDateTime.ofEpochSecond(epochSecond, micros * 1_000, ZoneOffset.UTC)
+                    .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            formatted.getChars(0, formatted.length(), buffer, 0);
+            return formatted.length();
+        }
+
+        writeDigits((int) year, 4, buffer, 0);
+        buffer[4] = '-';
+        writeDigits(month, 2, buffer, 5);
+        buffer[7] = '-';
+        writeDigits(day, 2, buffer, 8);
+        buffer[10] = 'T';
+        writeDigits(secondOfDay / 3_600, 2, buffer, 11);
+        buffer[13] = ':';
+        writeDigits(secondOfDay / 60 % 60, 2, buffer, 14);
+        buffer[16] = ':';
+        writeDigits(secondOfDay % 60, 2, buffer, 17);
+        if (micros == 0) {
+            return 19;
+        }
+        buffer[19] = '.';
+        writeDigits(micros, 6, buffer, 20);
+        int end = 26;
+        while (buffer[end - 1] == '0') {
+            end--;
+        }
+        return end;
+    }
+
+    private static void writeDigits(int value, int digits, char[] buffer, int offset) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
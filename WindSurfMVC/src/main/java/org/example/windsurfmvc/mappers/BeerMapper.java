@@ -42,4 +42,17 @@ public interface BeerMapper {
     @Mapping(target = "createdDate", ignore = true)
     @Mapping(target = "updateDate", ignore = true)
     void updateBeerFromDto(BeerDto beerDto, @MappingTarget Beer beer);
+
+    /**
+     * Updates a Beer entity from an imported BeerDto, keeping the entity's ID,
+     * timestamps and version since imported rows carry none of them
+     *
+     * @param beerDto the imported BeerDto
+     * @param beer    the target Beer entity to update
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdDate", ignore = true)
+    @Mapping(target = "updateDate", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updateBeerFromImportedDto(BeerDto beerDto, @MappingTarget Beer beer);
 }
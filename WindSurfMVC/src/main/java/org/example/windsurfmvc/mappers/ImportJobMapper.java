@@ -0,0 +1,52 @@
+package org.example.windsurfmvc.mappers;
+
+import org.example.windsurfmvc.dtos.ImportErrorDto;
+import org.example.windsurfmvc.dtos.ImportJobDto;
+import org.example.windsurfmvc.entities.ImportJob;
+import org.example.windsurfmvc.entities.ImportJobError;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Mapper for converting import jobs and their errors to DTOs
+ */
+@Mapper(componentModel = "spring")
+public interface ImportJobMapper {
+
+    /**
+     * Converts an ImportJob entity to an ImportJobDto, deriving progress and throughput
+     *
+     * @param importJob the ImportJob entity to convert
+     * @return the converted ImportJobDto
+     */
+    @Mapping(target = "progressPercent", expression = "java(progressPercent(importJob))")
+    @Mapping(target = "rowsPerSecond", expression = "java(rowsPerSecond(importJob))")
+    ImportJobDto importJobToImportJobDto(ImportJob importJob);
+
+    /**
+     * Converts an ImportJobError entity to an ImportErrorDto
+     *
+     * @param importJobError the ImportJobError entity to convert
+     * @return the converted ImportErrorDto
+     */
+    ImportErrorDto importJobErrorToImportErrorDto(ImportJobError importJobError);
+
+    default int progressPercent(ImportJob importJob) {
+        if (importJob.getTotalBytes() <= 0) {
+            return 0;
+        }
+        return (int) Math.min(100, importJob.getProcessedBytes() * 100 / importJob.getTotalBytes());
+    }
+
+    default double rowsPerSecond(ImportJob importJob) {
+        if (importJob.getStartedDate() == null) {
+            return 0;
+        }
+        LocalDateTime end = importJob.getFinishedDate() != null ? importJob.getFinishedDate() : LocalDateTime.now();
+        long millis = Math.max(1, Duration.between(importJob.getStartedDate(), end).toMillis());
+        return importJob.getProcessedRows() * 1000.0 / millis;
+    }
+}
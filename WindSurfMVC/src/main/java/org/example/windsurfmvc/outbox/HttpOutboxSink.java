@@ -0,0 +1,60 @@
+package org.example.windsurfmvc.outbox;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.windsurfmvc.entities.OutboxEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Posts each batch as a JSON array to an HTTP endpoint, any 2xx status acknowledges it
+ */
+public class HttpOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final URI uri;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+
+    public HttpOutboxSink(ObjectMapper objectMapper, URI uri, Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.uri = uri;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> events) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(events.size() * 256);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(body)) {
+            generator.writeStartArray();
+            for (OutboxEvent event : events) {
+                OutboxEnvelopeWriter.write(generator, event);
+            }
+            generator.writeEndArray();
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+        HttpResponse<Void> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while delivering outbox events to " + uri);
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Outbox sink " + uri + " responded with status " + response.statusCode());
+        }
+    }
+}
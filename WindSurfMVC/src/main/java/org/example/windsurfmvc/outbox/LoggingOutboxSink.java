@@ -0,0 +1,22 @@
+package org.example.windsurfmvc.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.windsurfmvc.entities.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Sink for instances without a downstream system, keeps the outbox drained
+ */
+@Slf4j
+public class LoggingOutboxSink implements OutboxSink {
+
+    @Override
+    public void deliver(List<OutboxEvent> events) {
+        if (log.isDebugEnabled()) {
+            for (OutboxEvent event : events) {
+                log.debug("Beer {} {} (outbox id {})", event.getBeerId(), event.getEventType(), event.getId());
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.windsurfmvc.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Selects the sink the outbox relay delivers to, at runtime for the same reason as the
+ * cache invalidation channel
+ */
+@Configuration(proxyBeanMethods = false)
+public class OutboxConfig {
+
+    @Bean
+    public OutboxSink outboxSink(ObjectMapper objectMapper,
+                                 @Value("${windsurf.outbox.sink:log}") String sink,
+                                 @Value("${windsurf.outbox.file:${java.io.tmpdir}/windsurf-outbox/beer-events.ndjson}") String file,
+                                 @Value("${windsurf.outbox.http.url:http://localhost:8081/events}") URI url,
+                                 @Value("${windsurf.outbox.http.timeout:10s}") Duration timeout) {
+        return switch (sink) {
+            case "log" -> new LoggingOutboxSink();
+            case "file" -> new FileOutboxSink(objectMapper, Path.of(file));
+            case "http" -> new HttpOutboxSink(objectMapper, url, timeout);
+            default -> throw new IllegalArgumentException("Unknown outbox sink: " + sink);
+        };
+    }
+}
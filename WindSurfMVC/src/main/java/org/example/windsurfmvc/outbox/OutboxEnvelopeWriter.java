@@ -0,0 +1,35 @@
+package org.example.windsurfmvc.outbox;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.windsurfmvc.entities.OutboxEvent;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes outbox events as JSON envelopes, embedding the stored payload without parsing it
+ */
+final class OutboxEnvelopeWriter {
+
+    private OutboxEnvelopeWriter() {
+    }
+
+    static void write(ObjectMapper objectMapper, OutboxEvent event, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            write(generator, event);
+        }
+    }
+
+    static void write(JsonGenerator generator, OutboxEvent event) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", event.getId());
+        generator.writeStringField("type", event.getEventType().name());
+        generator.writeStringField("beerId", event.getBeerId().toString());
+        generator.writeStringField("createdDate", String.valueOf(event.getCreatedDate()));
+        generator.writeFieldName("beer");
+        generator.writeRawValue(event.getPayload());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,175 @@
+package org.example.windsurfmvc.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.windsurfmvc.entities.OutboxEvent;
+import org.example.windsurfmvc.entities.OutboxRelayLock;
+import org.example.windsurfmvc.repositories.OutboxEventRepository;
+import org.example.windsurfmvc.repositories.OutboxRelayLockRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox into the configured sink in ID order.
+ * <p>
+ * A batch is deleted only after the sink accepted it, so delivery is at-least-once: a crash
+ * between the two steps delivers the batch again. A failed batch stops the run and is
+ * retried from the same position on the next poll.
+ * <p>
+ * Every instance may run the relay. Each batch is read, delivered and deleted in one
+ * transaction that first locks the {@value #LOCK_NAME} row with {@code SKIP LOCKED}, so only one
+ * instance delivers at a time and the next batch is always read after the previous one was
+ * deleted. An instance that finds the row locked, or times out waiting for it where the
+ * database dialect has no {@code SKIP LOCKED}, skips the poll. The lock is held while the
+ * sink delivers, which keeps one connection busy for at most the sink's timeout.
+ * <p>
+ * Nothing injects the relay, so the bean is never lazy and its schedule runs from startup
+ * under lazy initialization too. Spring Boot already keeps beans with scheduled methods
+ * eager; the annotation makes that independent of the auto-configuration.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+public class OutboxRelay {
+
+    static final String LOCK_NAME = "outbox-relay";
+    private static final int NOT_DELIVERED = -1;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelayLockRepository outboxRelayLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxSink outboxSink;
+    private final String nodeId;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Counter deliveredEvents;
+    private final Counter failedBatches;
+    private final Timer batchTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private volatile boolean lockCreated;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxRelayLockRepository outboxRelayLockRepository,
+                       PlatformTransactionManager transactionManager,
+                       OutboxSink outboxSink,
+                       MeterRegistry meterRegistry,
+                       @Value("${windsurf.cluster.node-id:${random.uuid}}") String nodeId,
+                       @Value("${windsurf.outbox.relay.enabled:true}") boolean enabled,
+                       @Value("${windsurf.outbox.batch-size:500}") int batchSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxRelayLockRepository = outboxRelayLockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.outboxSink = outboxSink;
+        this.nodeId = nodeId;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.deliveredEvents = Counter.builder("windsurf.outbox.delivered")
+                .description("Outbox events accepted by the sink")
+                .register(meterRegistry);
+        this.failedBatches = Counter.builder("windsurf.outbox.failures")
+                .description("Outbox batches the sink rejected")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("windsurf.outbox.batch")
+                .description("Time to deliver and remove one outbox batch")
+                .register(meterRegistry);
+        TimeGauge.builder("windsurf.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::doubleValue)
+                .description("Age of the oldest undelivered outbox event at the last poll")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Deliver batches until the outbox is empty, the sink fails or another instance holds the lock
+     *
+     * @return the number of delivered events
+     */
+    @Scheduled(fixedDelayString = "${windsurf.outbox.poll-interval:1s}")
+    public synchronized int relay() {
+        if (!enabled) {
+            return 0;
+        }
+        createLock();
+        int delivered = 0;
+        while (true) {
+            Integer relayed;
+            try {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+            } catch (PessimisticLockingFailureException e) {
+                log.debug("Outbox relay lock is held by another instance, skipping this poll");
+                return delivered;
+            }
+            if (relayed == null || relayed <= 0) {
+                return delivered;
+            }
+            delivered += relayed;
+            if (relayed < batchSize) {
+                return delivered;
+            }
+        }
+    }
+
+    private int relayBatch() {
+        Optional<OutboxRelayLock> lock = outboxRelayLockRepository.tryLock(LOCK_NAME);
+        if (lock.isEmpty()) {
+            log.debug("Outbox relay lock is held by another instance, skipping this poll");
+            return NOT_DELIVERED;
+        }
+        lock.get().setOwner(nodeId);
+        lock.get().setLockedDate(LocalDateTime.now());
+
+        List<OutboxEvent> batch = outboxEventRepository.findByOrderById(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            lagMillis.set(0);
+            return 0;
+        }
+        LocalDateTime oldest = batch.get(0).getCreatedDate();
+        lagMillis.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()));
+
+        long start = System.nanoTime();
+        try {
+            outboxSink.deliver(batch);
+        } catch (IOException | RuntimeException e) {
+            failedBatches.increment();
+            log.warn("Failed to deliver {} outbox events starting at id {}", batch.size(), batch.get(0).getId(), e);
+            return NOT_DELIVERED;
+        }
+        outboxEventRepository.deleteAllByIdInBatch(batch.stream().map(OutboxEvent::getId).toList());
+        batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        deliveredEvents.increment(batch.size());
+        if (batch.size() < batchSize) {
+            lagMillis.set(0);
+        }
+        return batch.size();
+    }
+
+    private void createLock() {
+        if (lockCreated) {
+            return;
+        }
+        if (!outboxRelayLockRepository.existsById(LOCK_NAME)) {
+            try {
+                outboxRelayLockRepository.saveAndFlush(OutboxRelayLock.builder().name(LOCK_NAME).build());
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Outbox relay lock was created by another instance");
+            }
+        }
+        lockCreated = true;
+    }
+}
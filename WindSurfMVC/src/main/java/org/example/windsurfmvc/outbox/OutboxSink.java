@@ -0,0 +1,21 @@
+package org.example.windsurfmvc.outbox;
+
+import org.example.windsurfmvc.entities.OutboxEvent;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Downstream destination of the outbox relay
+ */
+public interface OutboxSink {
+
+    /**
+     * Deliver a batch of events; the events are only removed from the outbox when this returns,
+     * so the same events may be delivered again after a failure
+     *
+     * @param events the events in outbox order
+     * @throws IOException when the batch was not accepted
+     */
+    void deliver(List<OutboxEvent> events) throws IOException;
+}
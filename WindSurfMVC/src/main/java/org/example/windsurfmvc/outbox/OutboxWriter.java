@@ -0,0 +1,46 @@
+package org.example.windsurfmvc.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.windsurfmvc.entities.OutboxEvent;
+import org.example.windsurfmvc.events.BeerChangedEvent;
+import org.example.windsurfmvc.repositories.OutboxEventRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records every beer change in the outbox as part of the transaction that made it
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Append a change to the outbox, fails when called outside of a transaction
+     *
+     * @param event the change to record
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onBeerChanged(BeerChangedEvent event) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .beerId(event.beerId())
+                .eventType(event.type())
+                .payload(serialize(event))
+                .build());
+    }
+
+    private String serialize(BeerChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event.beer());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize beer " + event.beerId(), e);
+        }
+    }
+}
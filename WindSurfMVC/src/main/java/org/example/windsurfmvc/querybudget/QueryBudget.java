@@ -0,0 +1,30 @@
+package org.example.windsurfmvc.querybudget;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits the JDBC work of a service method, including everything it calls.
+ * <p>
+ * A method that takes a paged {@link org.springframework.data.domain.Pageable} may in
+ * addition never fetch more rows than the page size, plus one if it returns a
+ * {@link org.springframework.data.domain.Slice}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    /**
+     * @return the maximum number of executed statements, negative for no limit
+     */
+    int statements() default -1;
+
+    /**
+     * @return the maximum number of fetched rows, negative for no limit
+     */
+    long rows() default -1;
+}
@@ -0,0 +1,70 @@
+package org.example.windsurfmvc.querybudget;
+
+import org.example.windsurfmvc.services.BeerService;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+
+/**
+ * Wires the query budget guard: the counting data source and the advisor measuring the
+ * {@link BeerService} methods. The advisor is ordered first so a method's scope also covers
+ * the statements flushed when its transaction commits. The interceptor is also a transaction
+ * execution listener, which Spring Boot registers with the transaction manager, so the budget
+ * of a method that starts a transaction is enforced before that transaction commits.
+ */
+@Configuration(proxyBeanMethods = false)
+public class QueryBudgetConfig {
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor(
+            @Value("${windsurf.query-budget.mode:warn}") String mode) {
+        boolean enabled = QueryBudgetMode.parse(mode) != QueryBudgetMode.OFF;
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof DataSource dataSource
+                        && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static QueryBudgetInterceptor queryBudgetInterceptor(@Value("${windsurf.query-budget.mode:warn}") String mode) {
+        return new QueryBudgetInterceptor(QueryBudgetMode.parse(mode));
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor queryBudgetAdvisor(QueryBudgetInterceptor queryBudgetInterceptor) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return method.getDeclaringClass() != Object.class;
+            }
+
+            @Override
+            public ClassFilter getClassFilter() {
+                return new RootClassFilter(BeerService.class);
+            }
+        };
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, queryBudgetInterceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.windsurfmvc.querybudget;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.windsurfmvc.exceptions.QueryBudgetExceededException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Measures every HTTP request in its own scope and enforces the request-wide budget.
+ * <p>
+ * In {@code fail} mode the response body is buffered until the budget was checked, so a
+ * request over budget can still be turned into an error before anything reaches the client.
+ * That costs a copy of every body, which is why {@code fail} is meant for tests and staging.
+ */
+@Component
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final QueryBudgetMode mode;
+    private final int maxStatements;
+    private final long maxRows;
+
+    public QueryBudgetFilter(@Value("${windsurf.query-budget.mode:warn}") String mode,
+                             @Value("${windsurf.query-budget.request.max-statements:50}") int maxStatements,
+                             @Value("${windsurf.query-budget.request.max-rows:10000}") long maxRows) {
+        this.mode = QueryBudgetMode.parse(mode);
+        this.maxStatements = maxStatements;
+        this.maxRows = maxRows;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (mode == QueryBudgetMode.OFF) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        QueryScope scope = QueryScope.open(request.getMethod() + " " + request.getRequestURI());
+        if (mode == QueryBudgetMode.WARN) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                scope.close();
+            }
+            mode.enforce(scope, maxStatements, maxRows);
+            return;
+        }
+
+        ContentCachingResponseWrapper bufferedResponse = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, bufferedResponse);
+        } finally {
+            scope.close();
+        }
+        try {
+            mode.enforce(scope, maxStatements, maxRows);
+        } catch (QueryBudgetExceededException e) {
+            // Nothing was committed yet, drop the buffered body and let the error handling respond
+            response.reset();
+            throw e;
+        }
+        bufferedResponse.copyBodyToResponse();
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.windsurfmvc.querybudget;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures each call of an advised service method in its own scope and enforces the
+ * method's {@link QueryBudget}
+ * <p>
+ * A method that starts its own transaction is checked right before that transaction commits,
+ * after flushing it, so a method over its budget in fail mode is rolled back rather than
+ * failing after its writes were committed. Other methods are checked when they return.
+ */
+public class QueryBudgetInterceptor implements MethodInterceptor, TransactionExecutionListener {
+
+    private static final ThreadLocal<PendingCheck> PENDING = new ThreadLocal<>();
+
+    private final QueryBudgetMode mode;
+    private final Map<Method, Optional<QueryBudget>> budgets = new ConcurrentHashMap<>();
+
+    public QueryBudgetInterceptor(QueryBudgetMode mode) {
+        this.mode = mode;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (mode == QueryBudgetMode.OFF) {
+            return invocation.proceed();
+        }
+        Method method = invocation.getMethod();
+        QueryBudget budget = budgets.computeIfAbsent(method, m -> findBudget(invocation, m)).orElse(null);
+        int maxStatements = budget != null ? budget.statements() : -1;
+        long maxRows = budget != null ? budget.rows() : -1;
+        for (Object argument : invocation.getArguments()) {
+            if (argument instanceof Pageable pageable && pageable.isPaged()) {
+                // A slice reads one row past the page to tell whether another page follows,
+                // a page reads the single row of its count query instead
+                long pageRows = pageable.getPageSize() + (Slice.class.isAssignableFrom(method.getReturnType()) ? 1 : 0);
+                maxRows = maxRows < 0 ? pageRows : Math.min(maxRows, pageRows);
+            }
+        }
+
+        Object result;
+        QueryScope scope = QueryScope.open(method.getDeclaringClass().getSimpleName() + "." + method.getName());
+        PendingCheck pending = null;
+        if (!TransactionSynchronizationManager.isActualTransactionActive() && isTransactional(invocation, method)) {
+            pending = new PendingCheck(scope, maxStatements, maxRows, PENDING.get());
+            PENDING.set(pending);
+        }
+        try {
+            result = invocation.proceed();
+        } finally {
+            if (pending != null) {
+                PENDING.set(pending.previous);
+            }
+            scope.close();
+        }
+        if (pending == null || !pending.checked) {
+            mode.enforce(scope, maxStatements, maxRows);
+        }
+        return result;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        PendingCheck pending = PENDING.get();
+        if (pending != null && pending.transaction == null && beginFailure == null) {
+            pending.transaction = transaction;
+        }
+    }
+
+    @Override
+    public void beforeCommit(TransactionExecution transaction) {
+        PendingCheck pending = PENDING.get();
+        if (pending == null || pending.transaction != transaction || pending.checked) {
+            return;
+        }
+        // Flush now, so the statements the commit would issue count and a violation still rolls back
+        if (!transaction.isReadOnly() && transaction instanceof TransactionStatus status) {
+            status.flush();
+        }
+        pending.checked = true;
+        mode.enforce(pending.scope, pending.maxStatements, pending.maxRows);
+    }
+
+    private static boolean isTransactional(MethodInvocation invocation, Method method) {
+        Class<?> targetClass = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : null;
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        return AnnotatedElementUtils.hasAnnotation(specificMethod, Transactional.class)
+                || (targetClass != null && AnnotatedElementUtils.hasAnnotation(targetClass, Transactional.class));
+    }
+
+    private static Optional<QueryBudget> findBudget(MethodInvocation invocation, Method method) {
+        Class<?> targetClass = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : null;
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        return Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(specificMethod, QueryBudget.class));
+    }
+
+    /**
+     * Budget of a method that starts its own transaction, checked when that transaction commits
+     */
+    private static final class PendingCheck {
+
+        private final QueryScope scope;
+        private final int maxStatements;
+        private final long maxRows;
+        private final PendingCheck previous;
+        private TransactionExecution transaction;
+        private boolean checked;
+
+        private PendingCheck(QueryScope scope, int maxStatements, long maxRows, PendingCheck previous) {
+            this.scope = scope;
+            this.maxStatements = maxStatements;
+            this.maxRows = maxRows;
+            this.previous = previous;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.windsurfmvc.querybudget;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.windsurfmvc.exceptions.QueryBudgetExceededException;
+
+import java.util.Locale;
+
+/**
+ * What happens when a scope exceeds its query budget
+ */
+@Slf4j
+public enum QueryBudgetMode {
+
+    /**
+     * Statements are neither counted nor checked
+     */
+    OFF,
+
+    /**
+     * Violations are logged with the slowest statements
+     */
+    WARN,
+
+    /**
+     * Violations throw a {@link QueryBudgetExceededException}
+     */
+    FAIL;
+
+    /**
+     * Parse a configured mode, ignoring case
+     *
+     * @param value off, warn or fail
+     * @return the mode
+     */
+    public static QueryBudgetMode parse(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Check a closed scope against its budget
+     *
+     * @param scope         the scope to check
+     * @param maxStatements the maximum number of statements, negative for no limit
+     * @param maxRows       the maximum number of fetched rows, negative for no limit
+     */
+    void enforce(QueryScope scope, int maxStatements, long maxRows) {
+        if (this == OFF) {
+            return;
+        }
+        boolean statementsExceeded = maxStatements >= 0 && scope.getStatements() > maxStatements;
+        boolean rowsExceeded = maxRows >= 0 && scope.getRows() > maxRows;
+        if (!statementsExceeded && !rowsExceeded) {
+            if (log.isDebugEnabled()) {
+                log.debug(scope.describe());
+            }
+            return;
+        }
+        String message = "Query budget exceeded (statements <= " + maxStatements + ", rows <= " + maxRows + ") by "
+                + scope.describe();
+        if (this == FAIL) {
+            throw new QueryBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+}
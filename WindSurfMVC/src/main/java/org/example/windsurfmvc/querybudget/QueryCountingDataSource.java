@@ -0,0 +1,159 @@
+package org.example.windsurfmvc.querybudget;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Data source that reports every executed statement and fetched row to the open
+ * {@link QueryScope} of the calling thread.
+ * <p>
+ * Connections, statements and result sets are wrapped in JDK proxies. Connections taken
+ * while the thread has no open scope, such as those of background jobs, are not wrapped.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return measure(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return measure(super.getConnection(username, password));
+    }
+
+    private static Connection measure(Connection connection) {
+        if (!QueryScope.isOpen()) {
+            return connection;
+        }
+        return wrap(Connection.class, new ConnectionHandler(connection));
+    }
+
+    private static <T> T wrap(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, handler));
+    }
+
+    private abstract static class DelegatingHandler implements InvocationHandler {
+
+        private final Object target;
+
+        DelegatingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return handle(proxy, method, args);
+            }
+        }
+
+        abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+
+        Object delegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    private static final class ConnectionHandler extends DelegatingHandler {
+
+        ConnectionHandler(Connection connection) {
+            super(connection);
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> wrap(Statement.class, new StatementHandler(result, null));
+                case "prepareStatement" -> wrap(PreparedStatement.class, new StatementHandler(result, (String) args[0]));
+                case "prepareCall" -> wrap(CallableStatement.class, new StatementHandler(result, (String) args[0]));
+                default -> result;
+            };
+        }
+    }
+
+    private static final class StatementHandler extends DelegatingHandler {
+
+        private final String preparedSql;
+        private QueryScope.StatementExecution lastExecution;
+
+        StatementHandler(Object statement, String preparedSql) {
+            super(statement);
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (EXECUTE_METHODS.contains(name)) {
+                long start = System.nanoTime();
+                Object result = delegate(method, args);
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                lastExecution = QueryScope.recordStatement(sql, System.nanoTime() - start);
+                return result instanceof ResultSet resultSet ? wrapResultSet(resultSet) : result;
+            }
+            Object result = delegate(method, args);
+            if ("getResultSet".equals(name) && result instanceof ResultSet resultSet) {
+                return wrapResultSet(resultSet);
+            }
+            return result;
+        }
+
+        private ResultSet wrapResultSet(ResultSet resultSet) {
+            QueryScope.StatementExecution execution = lastExecution;
+            if (execution == null) {
+                return resultSet;
+            }
+            return wrap(ResultSet.class, new ResultSetHandler(resultSet, execution));
+        }
+    }
+
+    private static final class ResultSetHandler extends DelegatingHandler {
+
+        private final QueryScope.StatementExecution execution;
+
+        ResultSetHandler(ResultSet resultSet, QueryScope.StatementExecution execution) {
+            super(resultSet);
+            this.execution = execution;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                execution.addRow();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package org.example.windsurfmvc.querybudget;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Counts the JDBC statements, fetched rows and statement time of a unit of work on the
+ * current thread, and keeps its slowest statements with the application code that issued
+ * them.
+ * <p>
+ * Scopes nest: a statement counts towards every open scope of the thread, so a request
+ * scope also sees the statements of the service methods it calls. Threads without an open
+ * scope are not measured.
+ */
+public final class QueryScope implements AutoCloseable {
+
+    private static final ThreadLocal<QueryScope> CURRENT = new ThreadLocal<>();
+    private static final int SLOWEST = 3;
+    private static final int MAX_SQL_LENGTH = 200;
+    private static final String APPLICATION_PACKAGE = "org.example.windsurfmvc.";
+    private static final String OWN_PACKAGE = QueryScope.class.getPackageName() + ".";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final String name;
+    private final QueryScope parent;
+    private final List<StatementExecution> slowest = new ArrayList<>(SLOWEST + 1);
+    private int statements;
+    private long rows;
+    private long nanos;
+    private boolean closed;
+
+    private QueryScope(String name, QueryScope parent) {
+        this.name = name;
+        this.parent = parent;
+    }
+
+    /**
+     * Start measuring on the current thread, close the scope to stop
+     *
+     * @param name describes the unit of work in reports
+     * @return the new scope
+     */
+    public static QueryScope open(String name) {
+        QueryScope scope = new QueryScope(name, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * @return whether the current thread has an open scope
+     */
+    static boolean isOpen() {
+        return CURRENT.get() != null;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * @return the counters and the slowest statements as a single line
+     */
+    public String describe() {
+        StringBuilder description = new StringBuilder(name)
+                .append(": ").append(statements).append(" statements, ")
+                .append(rows).append(" rows, ")
+                .append(formatMillis(nanos)).append(" ms");
+        for (StatementExecution execution : slowest) {
+            description.append(System.lineSeparator()).append("  ")
+                    .append(formatMillis(execution.nanos)).append(" ms, ")
+                    .append(execution.rows).append(" rows: ")
+                    .append(truncate(execution.sql))
+                    .append(" at ").append(execution.callSite);
+        }
+        return description.toString();
+    }
+
+    /**
+     * Record a finished statement in the open scopes of the current thread
+     *
+     * @param sql   the statement text
+     * @param nanos the execution time
+     * @return the execution to count fetched rows against, or null when nothing is measured
+     */
+    static StatementExecution recordStatement(String sql, long nanos) {
+        QueryScope current = CURRENT.get();
+        if (current == null) {
+            return null;
+        }
+        StatementExecution execution = new StatementExecution(current, sql, nanos);
+        boolean keep = false;
+        for (QueryScope scope = current; scope != null; scope = scope.parent) {
+            scope.statements++;
+            scope.nanos += nanos;
+            keep |= scope.isSlowerThanKept(nanos);
+        }
+        if (keep) {
+            execution.callSite = callSite();
+            for (QueryScope scope = current; scope != null; scope = scope.parent) {
+                scope.keepIfSlow(execution);
+            }
+        }
+        return execution;
+    }
+
+    private boolean isSlowerThanKept(long executionNanos) {
+        return slowest.size() < SLOWEST || executionNanos > slowest.get(slowest.size() - 1).nanos;
+    }
+
+    private void keepIfSlow(StatementExecution execution) {
+        if (!isSlowerThanKept(execution.nanos)) {
+            return;
+        }
+        int index = 0;
+        while (index < slowest.size() && slowest.get(index).nanos >= execution.nanos) {
+            index++;
+        }
+        slowest.add(index, execution);
+        if (slowest.size() > SLOWEST) {
+            slowest.remove(SLOWEST);
+        }
+    }
+
+    private static String callSite() {
+        Optional<StackWalker.StackFrame> frame = STACK_WALKER.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !f.getClassName().startsWith(OWN_PACKAGE)
+                        && !f.getClassName().contains("$$"))
+                .findFirst());
+        return frame.map(f -> f.getClassName() + "." + f.getMethodName() + "(" + f.getFileName() + ":"
+                + f.getLineNumber() + ")").orElse("unknown");
+    }
+
+    private static String truncate(String sql) {
+        if (sql == null) {
+            return "batch";
+        }
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        return singleLine.length() <= MAX_SQL_LENGTH ? singleLine : singleLine.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * A measured statement, fetched rows are added while its result set is read
+     */
+    static final class StatementExecution {
+
+        private final QueryScope scope;
+        private final String sql;
+        private final long nanos;
+        private long rows;
+        private String callSite = "unknown";
+
+        private StatementExecution(QueryScope scope, String sql, long nanos) {
+            this.scope = scope;
+            this.sql = sql;
+            this.nanos = nanos;
+        }
+
+        void addRow() {
+            rows++;
+            for (QueryScope s = scope; s != null; s = s.parent) {
+                s.rows++;
+            }
+        }
+    }
+}
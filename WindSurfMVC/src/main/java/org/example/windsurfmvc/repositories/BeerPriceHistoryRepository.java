@@ -0,0 +1,86 @@
+package org.example.windsurfmvc.repositories;
+
+import org.example.windsurfmvc.dtos.PricePointDto;
+import org.example.windsurfmvc.entities.BeerPriceHistory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA Repository for BeerPriceHistory entities.
+ * <p>
+ * Every query seeks the (beerId, validFrom) index, so its cost depends on the number of
+ * beers and entries returned rather than on the size of the history.
+ */
+public interface BeerPriceHistoryRepository extends JpaRepository<BeerPriceHistory, Long> {
+
+    /**
+     * Find the entry of a beer in effect at a point in time
+     *
+     * @param beerId   the ID of the beer
+     * @param asOf     the point in time
+     * @param pageable the first result only
+     * @return the latest entry at or before the point in time, if any
+     */
+    @Query("""
+            select new org.example.windsurfmvc.dtos.PricePointDto(h.beerId, h.validFrom, h.priceCents, h.quantityOnHand)
+            from BeerPriceHistory h
+            where h.beerId = :beerId and h.validFrom <= :asOf
+            order by h.validFrom desc""")
+    List<PricePointDto> findLatestAsOf(UUID beerId, LocalDateTime asOf, Pageable pageable);
+
+    /**
+     * Find the entries of a beer that took effect in a time range
+     *
+     * @param beerId   the ID of the beer
+     * @param from     the start of the range, exclusive
+     * @param to       the end of the range, inclusive
+     * @param pageable the page to fetch
+     * @return the entries ordered by time
+     */
+    @Query("""
+            select new org.example.windsurfmvc.dtos.PricePointDto(h.beerId, h.validFrom, h.priceCents, h.quantityOnHand)
+            from BeerPriceHistory h
+            where h.beerId = :beerId and h.validFrom > :from and h.validFrom <= :to
+            order by h.validFrom""")
+    Slice<PricePointDto> findBetween(UUID beerId, LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    /**
+     * Find the price and stock of every beer that existed at a point in time
+     *
+     * @param asOf     the point in time
+     * @param pageable the page to fetch
+     * @return one entry per beer ordered by beer ID
+     */
+    @Query("""
+            select new org.example.windsurfmvc.dtos.PricePointDto(h.beerId, h.validFrom, h.priceCents, h.quantityOnHand)
+            from BeerPriceSeries s
+            join BeerPriceHistory h on h.beerId = s.beerId
+            where s.createdDate <= :asOf
+              and (s.deletedDate is null or s.deletedDate > :asOf)
+              and h.validFrom = (select max(h2.validFrom) from BeerPriceHistory h2
+                                 where h2.beerId = s.beerId and h2.validFrom <= :asOf)
+            order by s.beerId""")
+    Slice<PricePointDto> findCatalogAsOf(LocalDateTime asOf, Pageable pageable);
+
+    /**
+     * Add an entry with the current price and stock, valid from the last update, for every
+     * beer that has no series yet
+     *
+     * @return the number of added entries
+     */
+    @Modifying
+    @Query("""
+            insert into BeerPriceHistory (beerId, validFrom, period, priceCents, quantityOnHand)
+            select b.id, b.updateDate, year(b.updateDate) * 100 + month(b.updateDate),
+                   cast(b.price * 100 as Long), b.quantityOnHand
+            from Beer b
+            where not exists (select 1 from BeerPriceSeries s where s.beerId = b.id)""")
+    int seedMissingEntries();
+}
@@ -0,0 +1,27 @@
+package org.example.windsurfmvc.repositories;
+
+import org.example.windsurfmvc.entities.BeerPriceSeries;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.UUID;
+
+/**
+ * JPA Repository for BeerPriceSeries entities
+ */
+public interface BeerPriceSeriesRepository extends JpaRepository<BeerPriceSeries, UUID> {
+
+    /**
+     * Start a series at the last update of every beer that has none yet
+     *
+     * @return the number of started series
+     */
+    @Modifying
+    @Query("""
+            insert into BeerPriceSeries (beerId, createdDate, lastPriceCents, lastQuantityOnHand)
+            select b.id, b.updateDate, cast(b.price * 100 as Long), b.quantityOnHand
+            from Beer b
+            where not exists (select 1 from BeerPriceSeries s where s.beerId = b.id)""")
+    int seedMissingSeries();
+}
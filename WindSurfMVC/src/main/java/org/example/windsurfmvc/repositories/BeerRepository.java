@@ -1,8 +1,14 @@
 package org.example.windsurfmvc.repositories;
 
+import org.example.windsurfmvc.dtos.BeerView;
 import org.example.windsurfmvc.entities.Beer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,4 +24,31 @@ public interface BeerRepository extends JpaRepository<Beer, UUID> {
      * @return an Optional containing the found beer, or empty if not found
      */
     Optional<Beer> findByUpc(String upc);
+
+    /**
+     * Find all beers with one of the given UPCs
+     *
+     * @param upcs the UPCs to search for
+     * @return the beers found, in no particular order
+     */
+    List<Beer> findByUpcIn(Collection<String> upcs);
+
+    /**
+     * Find the most recently updated beers, without counting the total
+     *
+     * @param pageable the page to fetch
+     * @return the beers ordered by update date, newest first
+     */
+    List<Beer> findByOrderByUpdateDateDesc(Pageable pageable);
+
+    /**
+     * Find beers as read-only views, without loading managed entities or counting the total.
+     * One row more than the page size is read to tell whether another page follows.
+     *
+     * @param pageable the page to fetch, or {@link Pageable#unpaged()} for all beers
+     * @return the beer views ordered by ID
+     */
+    @Query("select new org.example.windsurfmvc.dtos.BeerView(b.id, b.beerName, b.beerStyle, b.upc, "
+            + "b.quantityOnHand, b.price, b.createdDate, b.updateDate, b.version) from Beer b order by b.id")
+    Slice<BeerView> findAllViews(Pageable pageable);
 }
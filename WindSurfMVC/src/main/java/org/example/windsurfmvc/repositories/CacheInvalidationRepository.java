@@ -0,0 +1,43 @@
+package org.example.windsurfmvc.repositories;
+
+import org.example.windsurfmvc.entities.CacheInvalidation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JPA Repository for CacheInvalidation entities
+ */
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    /**
+     * Find the invalidations recorded after a position in the table
+     *
+     * @param id       the last ID already seen
+     * @param pageable the page to fetch
+     * @return the invalidations ordered by ID
+     */
+    List<CacheInvalidation> findByIdGreaterThanOrderById(Long id, Pageable pageable);
+
+    /**
+     * @return the highest ID in the table, or null when it is empty
+     */
+    @Query("select max(c.id) from CacheInvalidation c")
+    Long findMaxId();
+
+    /**
+     * Delete the invalidations recorded before a point in time
+     *
+     * @param cutoff the oldest creation date to keep
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from CacheInvalidation c where c.createdDate < :cutoff")
+    int deleteByCreatedDateBefore(LocalDateTime cutoff);
+}
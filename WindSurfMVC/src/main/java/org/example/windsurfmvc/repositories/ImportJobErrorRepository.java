@@ -0,0 +1,23 @@
+package org.example.windsurfmvc.repositories;
+
+import org.example.windsurfmvc.entities.ImportJobError;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA Repository for ImportJobError entities
+ */
+public interface ImportJobErrorRepository extends JpaRepository<ImportJobError, Long> {
+
+    /**
+     * Find the rejected rows of an import job
+     *
+     * @param jobId    the ID of the import job
+     * @param pageable the page to fetch
+     * @return the rejected rows ordered by line number
+     */
+    List<ImportJobError> findByJobIdOrderByLineNumber(UUID jobId, Pageable pageable);
+}
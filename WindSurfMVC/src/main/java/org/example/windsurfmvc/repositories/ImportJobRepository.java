@@ -0,0 +1,46 @@
+package org.example.windsurfmvc.repositories;
+
+import org.example.windsurfmvc.entities.ImportJob;
+import org.example.windsurfmvc.entities.ImportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA Repository for ImportJob entities
+ */
+public interface ImportJobRepository extends JpaRepository<ImportJob, UUID> {
+
+    /**
+     * Find all import jobs in one of the given states
+     *
+     * @param statuses the states to search for
+     * @return the matching jobs, oldest first
+     */
+    List<ImportJob> findByStatusInOrderByCreatedDate(Collection<ImportJobStatus> statuses);
+
+    /**
+     * Take the lease of an unfinished job unless another instance holds an unexpired one.
+     * The version is bumped so an instance that lost the lease fails its next batch.
+     *
+     * @param id         the ID of the job
+     * @param ownerNode  the instance taking the lease
+     * @param now        the current time
+     * @param expiresAt  when the lease runs out unless it is renewed
+     * @return 1 when the lease was taken, 0 otherwise
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update ImportJob j
+            set j.ownerNode = :ownerNode, j.leaseExpiresAt = :expiresAt, j.version = j.version + 1
+            where j.id = :id
+              and j.status in (org.example.windsurfmvc.entities.ImportJobStatus.QUEUED,
+                               org.example.windsurfmvc.entities.ImportJobStatus.RUNNING)
+              and (j.ownerNode is null or j.ownerNode = :ownerNode or j.leaseExpiresAt < :now)""")
+    int claim(UUID id, String ownerNode, LocalDateTime now, LocalDateTime expiresAt);
+}
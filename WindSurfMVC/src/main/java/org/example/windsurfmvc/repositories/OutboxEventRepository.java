@@ -0,0 +1,21 @@
+package org.example.windsurfmvc.repositories;
+
+import org.example.windsurfmvc.entities.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * JPA Repository for OutboxEvent entities
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Find the oldest undelivered events
+     *
+     * @param pageable the batch to fetch
+     * @return the events ordered by ID
+     */
+    List<OutboxEvent> findByOrderById(Pageable pageable);
+}
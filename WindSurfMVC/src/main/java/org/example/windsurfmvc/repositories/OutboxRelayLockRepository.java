@@ -0,0 +1,32 @@
+package org.example.windsurfmvc.repositories;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.windsurfmvc.entities.OutboxRelayLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.Optional;
+
+/**
+ * JPA Repository for OutboxRelayLock entities
+ */
+public interface OutboxRelayLockRepository extends JpaRepository<OutboxRelayLock, String> {
+
+    /**
+     * Lock a row for the rest of the current transaction without waiting for another holder.
+     * Dialects without {@code SKIP LOCKED} wait for the lock timeout and throw instead.
+     *
+     * @param name the name of the lock
+     * @return the locked row, or empty when it is held by another transaction or does not exist
+     * @throws org.springframework.dao.PessimisticLockingFailureException when the lock timed out
+     */
+    // A lock timeout of -2 is Hibernate's value for SKIP LOCKED (the deprecated LockOptions.SKIP_LOCKED),
+    // JPA itself has no way to ask for it
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select l from OutboxRelayLock l where l.name = :name")
+    Optional<OutboxRelayLock> tryLock(String name);
+}
@@ -0,0 +1,42 @@
+package org.example.windsurfmvc.services;
+
+import org.example.windsurfmvc.dtos.ImportErrorDto;
+import org.example.windsurfmvc.dtos.ImportJobDto;
+import org.example.windsurfmvc.entities.ImportFormat;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for bulk beer imports
+ */
+public interface BeerImportService {
+
+    /**
+     * Store an uploaded catalog file and start importing it in the background
+     *
+     * @param file   the uploaded CSV or NDJSON file
+     * @param format the file format, or null to derive it from the file name
+     * @return the queued import job
+     */
+    ImportJobDto startImport(MultipartFile file, ImportFormat format);
+
+    /**
+     * Get the progress of an import job
+     *
+     * @param jobId the ID of the import job
+     * @return the import job
+     */
+    ImportJobDto getImportJob(UUID jobId);
+
+    /**
+     * Get the rows an import job rejected
+     *
+     * @param jobId the ID of the import job
+     * @param page  the page to fetch, starting at 0
+     * @param size  the page size
+     * @return the rejected rows ordered by line number
+     */
+    List<ImportErrorDto> getImportErrors(UUID jobId, int page, int size);
+}
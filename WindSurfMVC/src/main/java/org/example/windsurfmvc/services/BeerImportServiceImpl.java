@@ -0,0 +1,115 @@
+package org.example.windsurfmvc.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.windsurfmvc.dtos.ImportErrorDto;
+import org.example.windsurfmvc.dtos.ImportJobDto;
+import org.example.windsurfmvc.entities.ImportFormat;
+import org.example.windsurfmvc.entities.ImportJob;
+import org.example.windsurfmvc.entities.ImportJobStatus;
+import org.example.windsurfmvc.exceptions.ResourceNotFoundException;
+import org.example.windsurfmvc.imports.BeerImportPipeline;
+import org.example.windsurfmvc.mappers.ImportJobMapper;
+import org.example.windsurfmvc.repositories.ImportJobErrorRepository;
+import org.example.windsurfmvc.repositories.ImportJobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+@Service
+@Slf4j
+public class BeerImportServiceImpl implements BeerImportService {
+
+    private final ImportJobRepository importJobRepository;
+    private final ImportJobErrorRepository importJobErrorRepository;
+    private final ImportJobMapper importJobMapper;
+    private final BeerImportPipeline beerImportPipeline;
+    private final Path spoolDir;
+    private final int batchSize;
+
+    public BeerImportServiceImpl(ImportJobRepository importJobRepository,
+                                 ImportJobErrorRepository importJobErrorRepository,
+                                 ImportJobMapper importJobMapper,
+                                 BeerImportPipeline beerImportPipeline,
+                                 @Value("${windsurf.import.spool-dir:${java.io.tmpdir}/windsurf-imports}") Path spoolDir,
+                                 @Value("${windsurf.import.batch-size:1000}") int batchSize) {
+        this.importJobRepository = importJobRepository;
+        this.importJobErrorRepository = importJobErrorRepository;
+        this.importJobMapper = importJobMapper;
+        this.beerImportPipeline = beerImportPipeline;
+        this.spoolDir = spoolDir;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public ImportJobDto startImport(MultipartFile file, ImportFormat format) {
+        ImportFormat resolvedFormat = format != null ? format : detectFormat(file.getOriginalFilename());
+        log.debug("Starting {} import of {}", resolvedFormat, file.getOriginalFilename());
+        ImportJob job = importJobRepository.save(ImportJob.builder()
+                .status(ImportJobStatus.QUEUED)
+                .format(resolvedFormat)
+                .fileName(file.getOriginalFilename() != null ? file.getOriginalFilename() : "upload")
+                .batchSize(batchSize)
+                .totalBytes(file.getSize())
+                .build());
+
+        // Spool the upload to disk so the job can resume from it after a restart
+        Path spoolPath = spoolDir.resolve(job.getId() + "." + resolvedFormat.name().toLowerCase(Locale.ROOT));
+        try {
+            Files.createDirectories(spoolDir);
+            file.transferTo(spoolPath);
+        } catch (IOException e) {
+            job.setStatus(ImportJobStatus.FAILED);
+            job.setFailureMessage("Failed to store the uploaded file");
+            importJobRepository.save(job);
+            throw new UncheckedIOException("Failed to store upload for import job " + job.getId(), e);
+        }
+        job.setSpoolPath(spoolPath.toString());
+        job = importJobRepository.save(job);
+
+        beerImportPipeline.submit(job.getId());
+        return importJobMapper.importJobToImportJobDto(job);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ImportJobDto getImportJob(UUID jobId) {
+        log.debug("Fetching import job with id: {}", jobId);
+        return importJobRepository.findById(jobId)
+                .map(importJobMapper::importJobToImportJobDto)
+                .orElseThrow(() -> new ResourceNotFoundException("Import job not found with id: " + jobId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ImportErrorDto> getImportErrors(UUID jobId, int page, int size) {
+        log.debug("Fetching errors of import job with id: {}", jobId);
+        if (!importJobRepository.existsById(jobId)) {
+            throw new ResourceNotFoundException("Import job not found with id: " + jobId);
+        }
+        return importJobErrorRepository.findByJobIdOrderByLineNumber(jobId, PageRequest.of(page, size)).stream()
+                .map(importJobMapper::importJobErrorToImportErrorDto)
+                .toList();
+    }
+
+    private static ImportFormat detectFormat(String fileName) {
+        String name = fileName != null ? fileName.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".csv")) {
+            return ImportFormat.CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return ImportFormat.NDJSON;
+        }
+        throw new IllegalArgumentException("Cannot determine the format of '" + fileName
+                + "', pass format=CSV or format=NDJSON");
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.windsurfmvc.services;
+
+import org.example.windsurfmvc.dtos.PricePointDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Service interface for the price and stock history of beers
+ */
+public interface BeerPriceHistoryService {
+
+    /**
+     * Get one page of the price history of a beer
+     *
+     * @param beerId   the ID of the beer
+     * @param from     the start of the range, or null for the whole history
+     * @param to       the end of the range, or null for now
+     * @param pageable the page of entries up to {@code to}, must be paged
+     * @return the entries ordered by time; the first page starts with the entry in effect at {@code from}
+     */
+    Slice<PricePointDto> getPriceHistory(UUID beerId, LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    /**
+     * Get the price and stock of every beer that existed at a point in time
+     *
+     * @param asOf     the point in time
+     * @param pageable the page to fetch
+     * @return one entry per beer ordered by beer ID
+     */
+    Slice<PricePointDto> getCatalogAsOf(LocalDateTime asOf, Pageable pageable);
+}
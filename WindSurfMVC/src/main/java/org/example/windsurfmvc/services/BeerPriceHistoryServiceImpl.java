@@ -0,0 +1,65 @@
+package org.example.windsurfmvc.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.windsurfmvc.dtos.PricePointDto;
+import org.example.windsurfmvc.entities.BeerPriceSeries;
+import org.example.windsurfmvc.exceptions.ResourceNotFoundException;
+import org.example.windsurfmvc.repositories.BeerPriceHistoryRepository;
+import org.example.windsurfmvc.repositories.BeerPriceSeriesRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of the BeerPriceHistoryService interface
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BeerPriceHistoryServiceImpl implements BeerPriceHistoryService {
+
+    private final BeerPriceSeriesRepository beerPriceSeriesRepository;
+    private final BeerPriceHistoryRepository beerPriceHistoryRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<PricePointDto> getPriceHistory(UUID beerId, LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        log.debug("Fetching price history of beer {} from {} to {}, {}", beerId, from, to, pageable);
+        if (pageable.isUnpaged()) {
+            throw new IllegalArgumentException("Price history must be read page by page");
+        }
+        BeerPriceSeries series = beerPriceSeriesRepository.findById(beerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Beer history not found with id: " + beerId));
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        if (from == null) {
+            return beerPriceHistoryRepository.findBetween(beerId, series.getCreatedDate().minusNanos(1_000), end, pageable);
+        }
+        if (from.isAfter(end)) {
+            throw new IllegalArgumentException("History range starts after it ends");
+        }
+        Slice<PricePointDto> changes = beerPriceHistoryRepository.findBetween(beerId, from, end, pageable);
+        if (!changes.isFirst()) {
+            return changes;
+        }
+        List<PricePointDto> history = new ArrayList<>(changes.getNumberOfElements() + 1);
+        history.addAll(beerPriceHistoryRepository.findLatestAsOf(beerId, from, PageRequest.of(0, 1)));
+        history.addAll(changes.getContent());
+        return new SliceImpl<>(history, pageable, changes.hasNext());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<PricePointDto> getCatalogAsOf(LocalDateTime asOf, Pageable pageable) {
+        log.debug("Fetching catalog as of {}", asOf);
+        return beerPriceHistoryRepository.findCatalogAsOf(asOf, pageable);
+    }
+}
@@ -1,8 +1,10 @@
 package org.example.windsurfmvc.services;
 
 import org.example.windsurfmvc.dtos.BeerDto;
+import org.example.windsurfmvc.dtos.BeerView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -11,11 +13,12 @@ import java.util.UUID;
 public interface BeerService {
     
     /**
-     * Get all beers
+     * Get beers as allocation-lean read-only views
      *
-     * @return list of all beers as DTOs
+     * @param pageable the page to fetch, or {@link Pageable#unpaged()} for all beers
+     * @return the beer views ordered by ID, and whether another page follows
      */
-    List<BeerDto> getAllBeers();
+    Slice<BeerView> getBeerViews(Pageable pageable);
 
     /**
      * Get a beer by its ID
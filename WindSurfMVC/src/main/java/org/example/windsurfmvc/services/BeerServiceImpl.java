@@ -2,17 +2,24 @@ package org.example.windsurfmvc.services;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.windsurfmvc.cache.CacheNames;
 import org.example.windsurfmvc.dtos.BeerDto;
+import org.example.windsurfmvc.dtos.BeerView;
 import org.example.windsurfmvc.entities.Beer;
+import org.example.windsurfmvc.events.BeerChangedEvent;
+import org.example.windsurfmvc.events.BeerChangedEvent.ChangeType;
 import org.example.windsurfmvc.exceptions.ResourceNotFoundException;
 import org.example.windsurfmvc.mappers.BeerMapper;
+import org.example.windsurfmvc.querybudget.QueryBudget;
 import org.example.windsurfmvc.repositories.BeerRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,18 +28,20 @@ public class BeerServiceImpl implements BeerService {
 
     private final BeerRepository beerRepository;
     private final BeerMapper beerMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
-    public List<BeerDto> getAllBeers() {
-        log.debug("Fetching all beers");
-        return beerRepository.findAll().stream()
-                .map(beerMapper::beerToBeerDto)
-                .collect(Collectors.toList());
+    @QueryBudget(statements = 1)
+    public Slice<BeerView> getBeerViews(Pageable pageable) {
+        log.debug("Fetching beer views: {}", pageable);
+        return beerRepository.findAllViews(pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.BEERS, key = "#id")
+    @QueryBudget(statements = 1, rows = 1)
     public BeerDto getBeerById(UUID id) {
         log.debug("Fetching beer with id: {}", id);
         return beerRepository.findById(id)
@@ -46,7 +55,9 @@ public class BeerServiceImpl implements BeerService {
         log.debug("Saving new beer: {}", beerDto.getBeerName());
         Beer beer = beerMapper.beerDtoToBeer(beerDto);
         Beer savedBeer = beerRepository.save(beer);
-        return beerMapper.beerToBeerDto(savedBeer);
+        BeerDto savedBeerDto = beerMapper.beerToBeerDto(savedBeer);
+        eventPublisher.publishEvent(new BeerChangedEvent(ChangeType.CREATED, savedBeerDto.getId(), savedBeerDto));
+        return savedBeerDto;
     }
 
     @Override
@@ -60,7 +71,9 @@ public class BeerServiceImpl implements BeerService {
         beerMapper.updateBeerFromDto(beerDto, existingBeer);
         
         Beer updatedBeer = beerRepository.save(existingBeer);
-        return beerMapper.beerToBeerDto(updatedBeer);
+        BeerDto updatedBeerDto = beerMapper.beerToBeerDto(updatedBeer);
+        eventPublisher.publishEvent(new BeerChangedEvent(ChangeType.UPDATED, id, updatedBeerDto));
+        return updatedBeerDto;
     }
 
     @Override
@@ -70,6 +83,7 @@ public class BeerServiceImpl implements BeerService {
         Beer beer = beerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Beer not found with id: " + id));
         beerRepository.delete(beer);
+        eventPublisher.publishEvent(new BeerChangedEvent(ChangeType.DELETED, id, beerMapper.beerToBeerDto(beer)));
         log.debug("Deleted beer with id: {}", id);
     }
 }
@@ -0,0 +1,80 @@
+package org.example.windsurfmvc.tracking;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free count-min sketch over 64-bit keys.
+ * <p>
+ * Estimates never undercount; they overcount by at most {@code e * total / width}
+ * with probability {@code 1 - e^-depth}.
+ */
+public class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final AtomicLongArray counters;
+
+    /**
+     * @param depth number of hash rows
+     * @param width counters per row, rounded up to a power of two
+     */
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 1) {
+            throw new IllegalArgumentException("Depth and width must be positive");
+        }
+        int roundedWidth = Integer.highestOneBit(Math.max(1, width - 1)) << 1;
+        this.depth = depth;
+        this.mask = roundedWidth - 1;
+        this.counters = new AtomicLongArray(depth * roundedWidth);
+    }
+
+    /**
+     * Count one occurrence of a key
+     *
+     * @param key the key to count
+     */
+    public void add(long key) {
+        for (int row = 0; row < depth; row++) {
+            counters.incrementAndGet(index(row, key));
+        }
+    }
+
+    /**
+     * Estimate how often a key has been counted
+     *
+     * @param key the key to look up
+     * @return the estimated count, never lower than the real count
+     */
+    public long estimate(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, key)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Reset all counters to zero
+     */
+    public void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    private int index(int row, long key) {
+        return row * (mask + 1) + (int) (mix(key + row * 0x9E3779B97F4A7C15L) & mask);
+    }
+
+    /**
+     * Finalization step of MurmurHash3, spreads the key bits over the whole word
+     */
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xFF51AFD7ED558CCDL;
+        key ^= key >>> 33;
+        key *= 0xC4CEB9FE1A85EC53L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
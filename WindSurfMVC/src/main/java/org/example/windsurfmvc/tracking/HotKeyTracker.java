@@ -0,0 +1,236 @@
+package org.example.windsurfmvc.tracking;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.windsurfmvc.dtos.HotKeyDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks beer access frequencies over a sliding window and keeps the heavy hitters.
+ * <p>
+ * The window is a ring of count-min sketches, one per time bucket; recording an access
+ * only increments counters in the current bucket. Candidates for the top-K are kept in
+ * a bounded set that is pruned whenever the ring rotates. Once the set is full, a new key is
+ * only admitted when its estimate beats the admission threshold, and it then replaces the
+ * weakest candidate, so the set never grows beyond its capacity between rotations.
+ */
+@Slf4j
+@Component
+public class HotKeyTracker {
+
+    private static final int LAST_MINUTE_SECONDS = 60;
+
+    private final CountMinSketch[] buckets;
+    private final long bucketMillis;
+    private final int lastMinuteBuckets;
+    private final int topK;
+    private final int candidateCapacity;
+    private final String hotKeysFile;
+    private final Map<UUID, Boolean> candidates = new ConcurrentHashMap<>();
+    private final LongAdder listRequests = new LongAdder();
+
+    private volatile int current;
+    private volatile long currentStartMillis = System.currentTimeMillis();
+    private volatile long admissionThreshold = 1;
+
+    public HotKeyTracker(@Value("${windsurf.hot-keys.top-k:100}") int topK,
+                         @Value("${windsurf.hot-keys.bucket-duration:10s}") Duration bucketDuration,
+                         @Value("${windsurf.hot-keys.buckets:30}") int bucketCount,
+                         @Value("${windsurf.hot-keys.sketch-depth:4}") int sketchDepth,
+                         @Value("${windsurf.hot-keys.sketch-width:1024}") int sketchWidth,
+                         @Value("${windsurf.warmup.hot-keys-file:}") String hotKeysFile) {
+        this.buckets = new CountMinSketch[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new CountMinSketch(sketchDepth, sketchWidth);
+        }
+        this.bucketMillis = bucketDuration.toMillis();
+        this.lastMinuteBuckets = (int) Math.max(1, Math.min(bucketCount,
+                Duration.ofSeconds(LAST_MINUTE_SECONDS).toMillis() / bucketMillis));
+        this.topK = topK;
+        this.candidateCapacity = topK * 4;
+        this.hotKeysFile = hotKeysFile;
+    }
+
+    /**
+     * Record an access to a single beer
+     *
+     * @param id the ID of the accessed beer
+     */
+    public void record(UUID id) {
+        long key = key(id);
+        buckets[current].add(key);
+        if (!candidates.containsKey(id)
+                && (candidates.size() < candidateCapacity || estimate(key, lastMinuteBuckets) > admissionThreshold)) {
+            admit(id, key);
+        }
+    }
+
+    /**
+     * Record a request for the beer list
+     */
+    public void recordList() {
+        listRequests.increment();
+    }
+
+    /**
+     * @return number of list requests since startup
+     */
+    public long getListRequests() {
+        return listRequests.sum();
+    }
+
+    /**
+     * @return length of the tracking window in seconds
+     */
+    public long getWindowSeconds() {
+        return bucketMillis * buckets.length / 1000;
+    }
+
+    /**
+     * Get the hottest beers by access rate in the last minute
+     *
+     * @param limit maximum number of beers to return, must be positive
+     * @return the hottest beers, hottest first
+     */
+    public List<HotKeyDto> topKeys(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be greater than 0");
+        }
+        long elapsedInCurrent = Math.max(1, System.currentTimeMillis() - currentStartMillis);
+        double lastMinuteSeconds = ((lastMinuteBuckets - 1) * bucketMillis + elapsedInCurrent) / 1000.0;
+        double windowSeconds = ((buckets.length - 1) * bucketMillis + elapsedInCurrent) / 1000.0;
+
+        List<HotKeyDto> keys = new ArrayList<>(candidates.size());
+        for (UUID id : candidates.keySet()) {
+            long key = key(id);
+            long lastMinute = estimate(key, lastMinuteBuckets);
+            long window = estimate(key, buckets.length);
+            if (window > 0) {
+                keys.add(new HotKeyDto(id, lastMinute, lastMinute / lastMinuteSeconds, window, window / windowSeconds));
+            }
+        }
+        keys.sort(Comparator.comparingLong(HotKeyDto::lastMinuteCount)
+                .thenComparingLong(HotKeyDto::windowCount)
+                .reversed());
+        return keys.size() > limit ? new ArrayList<>(keys.subList(0, limit)) : keys;
+    }
+
+    /**
+     * Advance the window by one bucket and prune the candidate set
+     */
+    @Scheduled(fixedRateString = "${windsurf.hot-keys.bucket-duration:10s}",
+            initialDelayString = "${windsurf.hot-keys.bucket-duration:10s}")
+    public void rotate() {
+        int next = (current + 1) % buckets.length;
+        buckets[next].clear();
+        current = next;
+        currentStartMillis = System.currentTimeMillis();
+        prune();
+    }
+
+    /**
+     * @return number of keys currently considered for the top-K
+     */
+    int candidateCount() {
+        return candidates.size();
+    }
+
+    private synchronized void admit(UUID id, long key) {
+        if (candidates.size() < candidateCapacity) {
+            candidates.put(id, Boolean.TRUE);
+            return;
+        }
+        long estimate = estimate(key, lastMinuteBuckets);
+        UUID weakest = null;
+        long weakestEstimate = Long.MAX_VALUE;
+        for (UUID candidate : candidates.keySet()) {
+            long candidateEstimate = estimate(key(candidate), lastMinuteBuckets);
+            if (candidateEstimate < weakestEstimate) {
+                weakest = candidate;
+                weakestEstimate = candidateEstimate;
+            }
+        }
+        if (weakest == null || estimate <= weakestEstimate) {
+            admissionThreshold = Math.max(admissionThreshold, weakestEstimate);
+            return;
+        }
+        candidates.remove(weakest);
+        candidates.put(id, Boolean.TRUE);
+    }
+
+    private synchronized void prune() {
+        List<Map.Entry<UUID, Long>> estimates = new ArrayList<>(candidates.size());
+        for (UUID id : candidates.keySet()) {
+            estimates.add(Map.entry(id, estimate(key(id), lastMinuteBuckets)));
+        }
+        estimates.sort(Map.Entry.<UUID, Long>comparingByValue().reversed());
+
+        long threshold = 0;
+        for (int i = 0; i < estimates.size(); i++) {
+            Map.Entry<UUID, Long> entry = estimates.get(i);
+            if (i >= candidateCapacity || entry.getValue() == 0) {
+                candidates.remove(entry.getKey());
+            } else {
+                threshold = entry.getValue();
+            }
+        }
+        // Never drop to 0, every recorded key has an estimate of at least 1
+        admissionThreshold = Math.max(1, candidates.size() >= candidateCapacity ? threshold : 0);
+    }
+
+    /**
+     * Persist the current top-K so the next instance can warm its caches with them
+     */
+    @PreDestroy
+    @Scheduled(fixedRateString = "${windsurf.hot-keys.persist-interval:5m}",
+            initialDelayString = "${windsurf.hot-keys.persist-interval:5m}")
+    public void persistHotKeys() {
+        if (hotKeysFile.isBlank()) {
+            return;
+        }
+        List<String> lines = topKeys(topK).stream()
+                .map(hotKey -> hotKey.id().toString())
+                .toList();
+        if (lines.isEmpty()) {
+            return;
+        }
+        try {
+            Path target = Path.of(hotKeysFile).toAbsolutePath();
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), "hot-keys", ".tmp");
+            Files.write(temp, lines);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Persisted {} hot keys to {}", lines.size(), target);
+        } catch (IOException e) {
+            log.warn("Failed to persist hot keys to {}", hotKeysFile, e);
+        }
+    }
+
+    private long estimate(long key, int bucketCount) {
+        int index = current;
+        long total = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            total += buckets[Math.floorMod(index - i, buckets.length)].estimate(key);
+        }
+        return total;
+    }
+
+    private static long key(UUID id) {
+        return id.getMostSignificantBits() * 31 + id.getLeastSignificantBits();
+    }
+}
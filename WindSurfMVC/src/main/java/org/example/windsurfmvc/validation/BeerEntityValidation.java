@@ -0,0 +1,62 @@
+package org.example.windsurfmvc.validation;
+
+import org.example.windsurfmvc.entities.Beer;
+import org.hibernate.validator.spi.group.DefaultGroupSequenceProvider;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Decides whether Hibernate validates {@link Beer} entities when they are flushed.
+ * <p>
+ * Hibernate validates every flushed entity against the default group, and
+ * {@code jakarta.persistence.validation.mode} can only switch that off for the whole
+ * persistence unit. The Beer constraints are therefore declared in the {@link Checks} group,
+ * which this provider adds to Beer's default group sequence unless the flush runs inside
+ * {@link #skipWhile(Supplier)}.
+ * <p>
+ * Only the import writer skips, for beers mapped from DTOs that {@link BeerDtoValidator}
+ * already accepted. The trade-off: the DTO constraints are at least as strict as the entity's,
+ * and skipping relies on that; if the two drift apart, an invalid imported beer is caught by
+ * the database constraints instead of Bean Validation. All other write paths, including the
+ * REST API, keep validating entities.
+ */
+public class BeerEntityValidation implements DefaultGroupSequenceProvider<Beer> {
+
+    private static final ThreadLocal<Boolean> SKIPPED = new ThreadLocal<>();
+
+    /**
+     * Validation group of the constraints declared on the Beer entity
+     */
+    public interface Checks {
+    }
+
+    /**
+     * Run an action that flushes beers without validating them again
+     *
+     * @param action the action, beers it flushes must have been validated as DTOs
+     * @return the result of the action
+     */
+    public static <T> T skipWhile(Supplier<T> action) {
+        Boolean previous = SKIPPED.get();
+        SKIPPED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                SKIPPED.remove();
+            } else {
+                SKIPPED.set(previous);
+            }
+        }
+    }
+
+    @Override
+    public List<Class<?>> getValidationGroups(Beer beer) {
+        // Called without an object when the metadata is built, e.g. for the schema
+        if (beer != null && SKIPPED.get() != null) {
+            return List.of(Beer.class);
+        }
+        return List.of(Beer.class, Checks.class);
+    }
+}
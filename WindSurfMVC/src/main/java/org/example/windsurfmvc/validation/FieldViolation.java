@@ -0,0 +1,15 @@
+package org.example.windsurfmvc.validation;
+
+/**
+ * A failed constraint on a single field
+ *
+ * @param field   the name of the field
+ * @param message the constraint's message
+ */
+public record FieldViolation(String field, String message) {
+
+    @Override
+    public String toString() {
+        return field + ": " + message;
+    }
+}
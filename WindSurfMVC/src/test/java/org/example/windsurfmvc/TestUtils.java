@@ -1,6 +1,7 @@
 package org.example.windsurfmvc;
 
 import org.example.windsurfmvc.dtos.BeerDto;
+import org.example.windsurfmvc.dtos.BeerView;
 import org.example.windsurfmvc.entities.Beer;
 
 import java.math.BigDecimal;
@@ -38,6 +39,11 @@ public class TestUtils {
                 .build();
     }
 
+    public static BeerView createTestBeerView() {
+        return new BeerView(TEST_BEER_ID, TEST_BEER_NAME, TEST_BEER_STYLE, TEST_UPC, TEST_QUANTITY,
+                TEST_PRICE, null, null, 1);
+    }
+
     public static BeerDto createUpdatedTestBeerDto() {
         return BeerDto.builder()
                 .id(TEST_BEER_ID)
@@ -0,0 +1,84 @@
+package org.example.windsurfmvc.benchmarks;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.example.windsurfmvc.TestUtils;
+import org.example.windsurfmvc.dtos.BeerDto;
+import org.example.windsurfmvc.validation.BeerDtoValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares Hibernate Validator with the specialized BeerDtoValidator on valid and invalid beers.
+ * <p>
+ * Run {@link #main} on a plain JVM, so JMH can fork the measured JVM with the same class path:
+ * <pre>
+ * ./mvnw test-compile dependency:build-classpath -Dmdep.includeScope=test -Dmdep.outputFile=target/test-classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/test-classpath.txt) \
+ *     org.example.windsurfmvc.benchmarks.BeerDtoValidationBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeerDtoValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator reflectiveValidator;
+    private BeerDtoValidator beerDtoValidator;
+    private BeerDto validBeer;
+    private BeerDto invalidBeer;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        reflectiveValidator = validatorFactory.getValidator();
+        beerDtoValidator = new BeerDtoValidator();
+        validBeer = TestUtils.createTestBeerDto();
+        invalidBeer = TestUtils.createTestBeerDto();
+        invalidBeer.setBeerName(" ");
+        invalidBeer.setQuantityOnHand(-1);
+        invalidBeer.setPrice(new BigDecimal("0.001"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Object reflectiveValid() {
+        return reflectiveValidator.validate(validBeer);
+    }
+
+    @Benchmark
+    public Object specializedValid() {
+        return beerDtoValidator.validate(validBeer);
+    }
+
+    @Benchmark
+    public Object reflectiveInvalid() {
+        return reflectiveValidator.validate(invalidBeer);
+    }
+
+    @Benchmark
+    public Object specializedInvalid() {
+        return beerDtoValidator.validate(invalidBeer);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BeerDtoValidationBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.windsurfmvc.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.example.windsurfmvc.dtos.BeerView;
+import org.example.windsurfmvc.entities.Beer;
+import org.example.windsurfmvc.mappers.BeerMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the allocation rate of the old list path (entities mapped to BeerDtos, then
+ * serialized) with the BeerView path on a large listing. Look at gc.alloc.rate.norm (bytes/op).
+ * <p>
+ * Sizes are the default and the maximum page size of {@code GET /api/v1/beers}. Run {@link #main}
+ * on a plain JVM, so JMH can fork the measured JVM with the same class path:
+ * <pre>
+ * ./mvnw test-compile dependency:build-classpath -Dmdep.includeScope=test -Dmdep.outputFile=target/test-classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/test-classpath.txt) \
+ *     org.example.windsurfmvc.benchmarks.BeerListSerializationBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeerListSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private BeerMapper beerMapper;
+    private List<Beer> beers;
+    private List<BeerView> views;
+
+    @Setup
+    public void setUp() {
+        // Same date handling as the ObjectMapper Spring Boot configures
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        beerMapper = Mappers.getMapper(BeerMapper.class);
+        beers = new ArrayList<>(size);
+        views = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            Beer beer = Beer.builder()
+                    .id(UUID.randomUUID())
+                    .beerName("Beer " + i)
+                    .beerStyle("IPA")
+                    .upc("UPC-" + i)
+                    .quantityOnHand(i)
+                    .price(BigDecimal.valueOf(100 + i, 2))
+                    .createdDate(now.minusSeconds(i))
+                    .updateDate(now)
+                    .version(1)
+                    .build();
+            beers.add(beer);
+            views.add(new BeerView(beer.getId(), beer.getBeerName(), beer.getBeerStyle(), beer.getUpc(),
+                    beer.getQuantityOnHand(), beer.getPrice(), beer.getCreatedDate(), beer.getUpdateDate(),
+                    beer.getVersion()));
+        }
+    }
+
+    @Benchmark
+    public void dtoListing() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), beers.stream()
+                .map(beerMapper::beerToBeerDto)
+                .toList());
+    }
+
+    @Benchmark
+    public void viewListing() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), views);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BeerListSerializationBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
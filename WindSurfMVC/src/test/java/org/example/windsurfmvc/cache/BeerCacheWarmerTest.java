@@ -0,0 +1,98 @@
+package org.example.windsurfmvc.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.windsurfmvc.TestUtils;
+import org.example.windsurfmvc.dtos.BeerDto;
+import org.example.windsurfmvc.mappers.BeerMapper;
+import org.example.windsurfmvc.repositories.BeerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BeerCacheWarmerTest {
+
+    @Mock
+    private BeerRepository beerRepository;
+
+    private final BeerMapper beerMapper = Mappers.getMapper(BeerMapper.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private CacheManager cacheManager;
+    private BeerResponseCache beerResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheNames.BEERS, CacheNames.BEER_RESPONSES);
+        beerResponseCache = new BeerResponseCache(cacheManager, objectMapper);
+    }
+
+    private BeerCacheWarmer createWarmer(String hotKeysFile) {
+        return new BeerCacheWarmer(beerRepository, beerMapper, objectMapper, beerResponseCache, cacheManager,
+                true, hotKeysFile, 10, 100, Duration.ofSeconds(10));
+    }
+
+    @Test
+    void preloadsRecentlyUpdatedBeersWithoutHotKeys() throws Exception {
+        // given
+        when(beerRepository.findByOrderByUpdateDateDesc(any(Pageable.class)))
+                .thenReturn(List.of(TestUtils.createTestBeer()));
+
+        // when
+        createWarmer("").run(null);
+
+        // then
+        BeerDto cached = cacheManager.getCache(CacheNames.BEERS).get(TestUtils.TEST_BEER_ID, BeerDto.class);
+        assertThat(cached).isNotNull();
+        assertThat(cached.getBeerName()).isEqualTo(TestUtils.TEST_BEER_NAME);
+        assertThat(cacheManager.getCache(CacheNames.BEER_RESPONSES).get(TestUtils.TEST_BEER_ID)).isNotNull();
+        verify(beerRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void preloadsHotKeysFromFile(@TempDir Path tempDir) throws Exception {
+        // given
+        Path hotKeys = Files.writeString(tempDir.resolve("hot-keys.txt"),
+                TestUtils.TEST_BEER_ID + "\n\nnot-a-uuid\n");
+        when(beerRepository.findAllById(List.of(TestUtils.TEST_BEER_ID)))
+                .thenReturn(List.of(TestUtils.createTestBeer()));
+
+        // when
+        createWarmer(hotKeys.toString()).run(null);
+
+        // then
+        assertThat(cacheManager.getCache(CacheNames.BEERS).get(TestUtils.TEST_BEER_ID)).isNotNull();
+        verify(beerRepository, never()).findByOrderByUpdateDateDesc(any(Pageable.class));
+    }
+
+    @Test
+    void servesLoadedResponsesFromCache() {
+        // given
+        BeerDto beerDto = TestUtils.createTestBeerDto();
+
+        // when
+        byte[] first = beerResponseCache.get(TestUtils.TEST_BEER_ID, id -> beerDto);
+        byte[] second = beerResponseCache.get(TestUtils.TEST_BEER_ID, id -> {
+            throw new AssertionError("should be served from cache");
+        });
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+}
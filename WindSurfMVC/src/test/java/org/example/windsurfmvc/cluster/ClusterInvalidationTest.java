@@ -0,0 +1,122 @@
+package org.example.windsurfmvc.cluster;
+
+import org.example.windsurfmvc.TestUtils;
+import org.example.windsurfmvc.WindSurfMvcApplication;
+import org.example.windsurfmvc.cache.CacheNames;
+import org.example.windsurfmvc.dtos.BeerDto;
+import org.example.windsurfmvc.exceptions.ResourceNotFoundException;
+import org.example.windsurfmvc.services.BeerService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Runs two instances in one JVM that share a database and broadcast invalidations through it
+ */
+class ClusterInvalidationTest {
+
+    private static final Duration MAX_DELAY = Duration.ofSeconds(5);
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    void updateOnOneNodeEvictsTheOther() {
+        BeerService serviceA = nodeA.getBean(BeerService.class);
+        BeerService serviceB = nodeB.getBean(BeerService.class);
+        BeerDto saved = serviceA.saveBeer(newBeer("CLU-0001"));
+        UUID id = saved.getId();
+
+        assertThat(serviceB.getBeerById(id).getBeerName()).isEqualTo(TestUtils.TEST_BEER_NAME);
+        assertThat(nodeB.getBean(CacheManager.class).getCache(CacheNames.BEERS).get(id)).isNotNull();
+
+        BeerDto update = newBeer("CLU-0001");
+        update.setBeerName("Clustered Beer");
+        serviceA.updateBeer(id, update);
+
+        await(() -> "Clustered Beer".equals(serviceB.getBeerById(id).getBeerName()));
+    }
+
+    @Test
+    void deleteOnOneNodeEvictsTheOther() {
+        BeerService serviceA = nodeA.getBean(BeerService.class);
+        BeerService serviceB = nodeB.getBean(BeerService.class);
+        UUID id = serviceA.saveBeer(newBeer("CLU-0002")).getId();
+        serviceB.getBeerById(id);
+
+        serviceA.deleteBeer(id);
+
+        await(() -> {
+            try {
+                serviceB.getBeerById(id);
+                return false;
+            } catch (ResourceNotFoundException e) {
+                return true;
+            }
+        });
+    }
+
+    private static ConfigurableApplicationContext startNode(String nodeId) {
+        // Command line arguments, default properties would lose to application.properties
+        return new SpringApplicationBuilder(WindSurfMvcApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:cluster;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--windsurf.warmup.enabled=false",
+                        "--windsurf.cluster.node-id=" + nodeId,
+                        "--windsurf.cluster.invalidation.channel=jdbc",
+                        "--windsurf.cluster.invalidation.publish-interval=50ms",
+                        "--windsurf.cluster.invalidation.poll-interval=50ms");
+    }
+
+    private static BeerDto newBeer(String upc) {
+        BeerDto beerDto = TestUtils.createTestBeerDto();
+        beerDto.setId(null);
+        beerDto.setVersion(null);
+        beerDto.setUpc(upc);
+        return beerDto;
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + MAX_DELAY.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted while waiting for the invalidation");
+            }
+        }
+        fail("Invalidation was not applied within " + MAX_DELAY);
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.windsurfmvc.cluster;
+
+import org.example.windsurfmvc.entities.CacheInvalidation;
+import org.example.windsurfmvc.repositories.CacheInvalidationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JdbcInvalidationChannelTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    private final TreeMap<Long, CacheInvalidation> committed = new TreeMap<>();
+    private final List<UUID> applied = new ArrayList<>();
+    private CacheInvalidationRepository repository;
+
+    @BeforeEach
+    void setUpRepository() {
+        repository = mock(CacheInvalidationRepository.class);
+        when(repository.findMaxId()).thenReturn(null);
+        when(repository.findByIdGreaterThanOrderById(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            Long after = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            return committed.tailMap(after, false).values().stream().limit(pageable.getPageSize()).toList();
+        });
+    }
+
+    @Test
+    void appliesALowerIdCommittedAfterAFullPageOfHigherIds() {
+        JdbcInvalidationChannel channel = channel(Duration.ofHours(1));
+        channel.poll();
+
+        // ID 1 is allocated first but its transaction commits after 2 and 3
+        commit(2);
+        commit(3);
+        channel.poll();
+        channel.poll();
+        assertThat(applied).isEmpty();
+
+        commit(1);
+        channel.poll();
+        channel.poll();
+
+        assertThat(applied).containsExactly(beerId(1), beerId(2), beerId(3));
+    }
+
+    @Test
+    void skipsGapsOfRolledBackTransactionsOnceTheySettled() throws InterruptedException {
+        JdbcInvalidationChannel channel = channel(Duration.ofMillis(50));
+        channel.poll();
+
+        commit(2);
+        commit(4);
+        channel.poll();
+        assertThat(applied).isEmpty();
+
+        Thread.sleep(100);
+        channel.poll();
+
+        // both gaps started settling on the same poll, so neither waits for the other
+        assertThat(applied).containsExactly(beerId(2), beerId(4));
+    }
+
+    private JdbcInvalidationChannel channel(Duration settle) {
+        JdbcInvalidationChannel channel = new JdbcInvalidationChannel(repository, "node-a", PAGE_SIZE, settle, Duration.ofHours(1));
+        channel.subscribe((Collection<UUID> beerIds) -> applied.addAll(beerIds));
+        return channel;
+    }
+
+    private void commit(long id) {
+        committed.put(id, CacheInvalidation.builder().id(id).beerId(beerId(id)).originNode("node-b").build());
+    }
+
+    private static UUID beerId(long id) {
+        return new UUID(0, id);
+    }
+}
@@ -2,16 +2,23 @@ package org.example.windsurfmvc.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.windsurfmvc.TestUtils;
+import org.example.windsurfmvc.cache.BeerResponseCache;
 import org.example.windsurfmvc.dtos.BeerDto;
+import org.example.windsurfmvc.dtos.BeerView;
 import org.example.windsurfmvc.entities.Beer;
 import org.example.windsurfmvc.exceptions.ResourceNotFoundException;
 import org.example.windsurfmvc.services.BeerService;
+import org.example.windsurfmvc.tracking.HotKeyTracker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
@@ -26,6 +33,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(BeerController.class)
+@Import(BeerResponseCache.class)
 class BeerControllerTest {
 
     @Autowired
@@ -34,9 +42,12 @@ class BeerControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
-    @MockBean
+    @MockitoBean
     private BeerService beerService;
 
+    @MockitoBean
+    private HotKeyTracker hotKeyTracker;
+
     private Beer testBeer;
     private BeerDto testBeerDto;
     private BeerDto updatedBeerDto;
@@ -50,15 +61,60 @@ class BeerControllerTest {
     @Test
     void getAllBeers() throws Exception {
         // given
-        List<BeerDto> beers = Arrays.asList(testBeerDto);
-        given(beerService.getAllBeers()).willReturn(beers);
+        List<BeerView> beers = Arrays.asList(TestUtils.createTestBeerView());
+        given(beerService.getBeerViews(PageRequest.of(0, 100)))
+                .willReturn(new SliceImpl<>(beers, PageRequest.of(0, 100), false));
 
         // when & then
         mockMvc.perform(get("/api/v1/beers")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LINK))
                 .andExpect(jsonPath("$", hasSize(1)))
-                .andExpect(jsonPath("$[0].beerName", is(testBeerDto.getBeerName())));
+                .andExpect(jsonPath("$[0].beerName", is(testBeerDto.getBeerName())))
+                .andExpect(jsonPath("$[0].price", is(9.99)));
+    }
+
+    @Test
+    void getAllBeers_Paged() throws Exception {
+        // given
+        given(beerService.getBeerViews(PageRequest.of(2, 10)))
+                .willReturn(new SliceImpl<>(List.of(TestUtils.createTestBeerView()), PageRequest.of(2, 10), true));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/beers?page=2&size=10")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.LINK,
+                        "<http://localhost/api/v1/beers?page=3&size=10>; rel=\"next\", "
+                                + "<http://localhost/api/v1/beers?page=1&size=10>; rel=\"prev\""))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void getAllBeers_LinksNextPageOfDefaultListing() throws Exception {
+        // given
+        given(beerService.getBeerViews(PageRequest.of(0, 100)))
+                .willReturn(new SliceImpl<>(List.of(TestUtils.createTestBeerView()), PageRequest.of(0, 100), true));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/beers"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.LINK, "<http://localhost/api/v1/beers?page=1&size=100>; rel=\"next\""));
+    }
+
+    @Test
+    void getAllBeers_InvalidPage() throws Exception {
+        mockMvc.perform(get("/api/v1/beers?page=-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Page must be 0 or greater")));
+        mockMvc.perform(get("/api/v1/beers?size=0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/beers?size=1001"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Size must be between 1 and 1000")));
+
+        verify(beerService, never()).getBeerViews(any());
     }
 
     @Test
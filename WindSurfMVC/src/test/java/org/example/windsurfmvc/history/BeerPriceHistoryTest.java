@@ -0,0 +1,175 @@
+package org.example.windsurfmvc.history;
+
+import org.example.windsurfmvc.TestUtils;
+import org.example.windsurfmvc.dtos.BeerDto;
+import org.example.windsurfmvc.dtos.PricePointDto;
+import org.example.windsurfmvc.entities.Beer;
+import org.example.windsurfmvc.repositories.BeerRepository;
+import org.example.windsurfmvc.services.BeerPriceHistoryService;
+import org.example.windsurfmvc.services.BeerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:history",
+        "windsurf.warmup.enabled=false"
+})
+@AutoConfigureMockMvc
+class BeerPriceHistoryTest {
+
+    @Autowired
+    BeerService beerService;
+
+    @Autowired
+    BeerPriceHistoryService beerPriceHistoryService;
+
+    @Autowired
+    BeerRepository beerRepository;
+
+    @Autowired
+    BeerPriceHistorySeeder beerPriceHistorySeeder;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    void recordsChangesAndAnswersPointInTimeQueries() throws Exception {
+        BeerDto beerDto = TestUtils.createTestBeerDto();
+        beerDto.setId(null);
+        beerDto.setVersion(null);
+        beerDto.setUpc("HIS-0001");
+        BeerDto saved = beerService.saveBeer(beerDto);
+        UUID id = saved.getId();
+        LocalDateTime afterCreate = tick();
+
+        saved.setBeerName("Renamed Beer");
+        BeerDto renamed = beerService.updateBeer(id, saved);
+        renamed.setPrice(new BigDecimal("12.99"));
+        beerService.updateBeer(id, renamed);
+        LocalDateTime afterUpdate = tick();
+
+        beerService.deleteBeer(id);
+        LocalDateTime afterDelete = tick();
+
+        assertThat(beerPriceHistoryService.getPriceHistory(id, null, null, PageRequest.of(0, 10)))
+                .extracting(PricePointDto::price)
+                .containsExactly(new BigDecimal("9.99"), new BigDecimal("12.99"));
+        assertThat(beerPriceHistoryService.getPriceHistory(id, afterCreate, afterCreate, PageRequest.of(0, 10)))
+                .extracting(PricePointDto::price)
+                .containsExactly(new BigDecimal("9.99"));
+
+        assertThat(catalogAsOf(afterCreate)).extracting(PricePointDto::price)
+                .containsExactly(new BigDecimal("9.99"));
+        assertThat(catalogAsOf(afterUpdate)).extracting(PricePointDto::price)
+                .containsExactly(new BigDecimal("12.99"));
+        assertThat(catalogAsOf(afterDelete)).isEmpty();
+
+        mockMvc.perform(get("/api/v1/beers").param("asOf", afterUpdate.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].beerId").value(id.toString()))
+                .andExpect(jsonPath("$[0].price").value(12.99))
+                .andExpect(jsonPath("$[0].quantityOnHand").value(TestUtils.TEST_QUANTITY));
+        mockMvc.perform(get("/api/v1/beers/{id}/history", id).param("from", afterUpdate.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void seedsBeersStoredWithoutHistory() throws Exception {
+        // Saved through the repository, so no change event starts its history
+        Beer beer = beerRepository.save(Beer.builder()
+                .beerName("Legacy Beer")
+                .beerStyle("Lager")
+                .upc("HIS-0002")
+                .price(new BigDecimal("4.50"))
+                .quantityOnHand(7)
+                .build());
+        UUID id = beer.getId();
+
+        assertThat(beerPriceHistorySeeder.seedMissingHistory()).isEqualTo(1);
+        assertThat(beerPriceHistorySeeder.seedMissingHistory()).isZero();
+        LocalDateTime afterSeed = tick();
+
+        assertThat(beerPriceHistoryService.getPriceHistory(id, null, null, PageRequest.of(0, 10)))
+                .extracting(PricePointDto::price, PricePointDto::quantityOnHand)
+                .containsExactly(tuple(new BigDecimal("4.50"), 7));
+        assertThat(catalogAsOf(afterSeed)).extracting(PricePointDto::beerId).contains(id);
+
+        beerService.deleteBeer(id);
+    }
+
+    @Test
+    void pagesTheHistoryOfABeer() throws Exception {
+        BeerDto beerDto = TestUtils.createTestBeerDto();
+        beerDto.setId(null);
+        beerDto.setVersion(null);
+        beerDto.setUpc("HIS-0003");
+        BeerDto saved = beerService.saveBeer(beerDto);
+        UUID id = saved.getId();
+        for (int i = 1; i <= 4; i++) {
+            saved.setPrice(new BigDecimal(10 + i + ".00"));
+            saved = beerService.updateBeer(id, saved);
+        }
+
+        mockMvc.perform(get("/api/v1/beers/{id}/history", id).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].price").value(9.99))
+                .andExpect(header().string(HttpHeaders.LINK, containsString("page=1&size=2>; rel=\"next\"")));
+        mockMvc.perform(get("/api/v1/beers/{id}/history", id).param("page", "2").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].price").value(14.0))
+                .andExpect(header().string(HttpHeaders.LINK, not(containsString("rel=\"next\""))));
+
+        beerService.deleteBeer(id);
+    }
+
+    @Test
+    void rejectsPageSizesOutOfRange() throws Exception {
+        mockMvc.perform(get("/api/v1/beers/{id}/history", UUID.randomUUID()).param("size", "1001"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Size must be between 1 and 1000"));
+        mockMvc.perform(get("/api/v1/beers").param("asOf", LocalDateTime.now().toString()).param("size", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/beers").param("asOf", LocalDateTime.now().toString()).param("page", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Page must be 0 or greater"));
+    }
+
+    @Test
+    void returnsNotFoundForUnknownBeer() throws Exception {
+        mockMvc.perform(get("/api/v1/beers/{id}/history", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    private List<PricePointDto> catalogAsOf(LocalDateTime asOf) {
+        return beerPriceHistoryService.getCatalogAsOf(asOf, PageRequest.of(0, 10)).getContent();
+    }
+
+    private static LocalDateTime tick() throws InterruptedException {
+        Thread.sleep(5);
+        LocalDateTime now = LocalDateTime.now();
+        Thread.sleep(5);
+        return now;
+    }
+}
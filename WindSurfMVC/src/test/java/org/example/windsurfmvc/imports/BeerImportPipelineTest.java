@@ -0,0 +1,282 @@
+package org.example.windsurfmvc.imports;
+
+import jakarta.validation.ConstraintViolationException;
+import org.example.windsurfmvc.dtos.BeerDto;
+import org.example.windsurfmvc.dtos.ImportErrorDto;
+import org.example.windsurfmvc.dtos.ImportJobDto;
+import org.example.windsurfmvc.entities.Beer;
+import org.example.windsurfmvc.entities.ImportFormat;
+import org.example.windsurfmvc.entities.ImportJob;
+import org.example.windsurfmvc.entities.ImportJobStatus;
+import org.example.windsurfmvc.events.BeerChangedEvent;
+import org.example.windsurfmvc.events.BeerChangedEvent.ChangeType;
+import org.example.windsurfmvc.repositories.BeerRepository;
+import org.example.windsurfmvc.repositories.ImportJobRepository;
+import org.example.windsurfmvc.services.BeerImportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "windsurf.import.batch-size=2",
+        "windsurf.import.parallelism=2"
+})
+@RecordApplicationEvents
+class BeerImportPipelineTest {
+
+    @Autowired
+    BeerImportService beerImportService;
+
+    @Autowired
+    BeerRepository beerRepository;
+
+    @Autowired
+    ImportJobRepository importJobRepository;
+
+    @Autowired
+    BeerImportPipeline beerImportPipeline;
+
+    @Autowired
+    BeerImportWriter beerImportWriter;
+
+    @Autowired
+    ApplicationEvents applicationEvents;
+
+    @Test
+    void importsCsvAndUpsertsByUpc() throws Exception {
+        beerRepository.save(Beer.builder()
+                .beerName("Before Import")
+                .beerStyle("Lager")
+                .upc("IMP-0001")
+                .price(new BigDecimal("5.00"))
+                .quantityOnHand(1)
+                .build());
+        String csv = """
+                beerName,beerStyle,upc,quantityOnHand,price
+                After Import,Lager,IMP-0001,10,6.50
+                New Import,IPA,IMP-0002,20,7.25
+
+                X,IPA,IMP-0003,5,1.00
+                Another Import,Stout,IMP-0004,-1,8.00
+                Last Import,Porter,IMP-0005,30,9.00
+                """;
+
+        ImportJobDto job = beerImportService.startImport(new MockMultipartFile(
+                "file", "catalog.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8)), null);
+        ImportJobDto finished = awaitCompletion(job.getId());
+
+        assertThat(finished.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(finished.getProcessedRows()).isEqualTo(5);
+        assertThat(finished.getInsertedRows()).isEqualTo(2);
+        assertThat(finished.getUpdatedRows()).isEqualTo(1);
+        assertThat(finished.getErrorRows()).isEqualTo(2);
+        assertThat(finished.getProgressPercent()).isEqualTo(100);
+        assertThat(beerRepository.findByUpc("IMP-0001").orElseThrow().getBeerName()).isEqualTo("After Import");
+        assertThat(beerRepository.findByUpc("IMP-0005")).isPresent();
+
+        List<ImportErrorDto> errors = beerImportService.getImportErrors(job.getId(), 0, 10);
+        assertThat(errors).extracting(ImportErrorDto::lineNumber).containsExactly(5L, 6L);
+        assertThat(errors.get(0).message()).isEqualTo("beerName: Beer name must be between 2 and 50 characters");
+        assertThat(errors.get(1).message()).isEqualTo("quantityOnHand: Quantity on hand must be 0 or greater");
+    }
+
+    @Test
+    void importsNdjson() throws Exception {
+        String ndjson = """
+                {"beerName":"Json Import","beerStyle":"IPA","upc":"IMP-1001","quantityOnHand":3,"price":4.50}
+                {"beerName":"Broken"
+                """;
+
+        ImportJobDto job = beerImportService.startImport(new MockMultipartFile(
+                "file", "catalog.ndjson", "application/x-ndjson", ndjson.getBytes(StandardCharsets.UTF_8)), null);
+        ImportJobDto finished = awaitCompletion(job.getId());
+
+        assertThat(finished.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(finished.getInsertedRows()).isEqualTo(1);
+        assertThat(finished.getErrorRows()).isEqualTo(1);
+        assertThat(beerRepository.findByUpc("IMP-1001")).isPresent();
+    }
+
+    @Test
+    void resumesAfterLastCommittedBatchWithoutDuplicates(@TempDir Path spoolDir) throws Exception {
+        String csv = """
+                beerName,beerStyle,upc,quantityOnHand,price
+                Resume One,Lager,RES-0001,1,1.00
+                Resume Two,Lager,RES-0002,2,2.00
+                Resume Three,IPA,RES-0003,3,3.00
+                Resume Four,IPA,RES-0004,4,4.00
+                Resume Five,Stout,RES-0005,5,5.00
+                """;
+        Path spoolFile = Files.writeString(spoolDir.resolve("resume.csv"), csv, StandardCharsets.UTF_8);
+
+        // State left behind by an instance that stopped right after committing the first batch
+        beerRepository.save(Beer.builder().beerName("Resume One").beerStyle("Lager").upc("RES-0001")
+                .price(new BigDecimal("1.00")).quantityOnHand(1).build());
+        beerRepository.save(Beer.builder().beerName("Resume Two").beerStyle("Lager").upc("RES-0002")
+                .price(new BigDecimal("2.00")).quantityOnHand(2).build());
+        ImportJob interrupted = importJobRepository.save(ImportJob.builder()
+                .status(ImportJobStatus.RUNNING)
+                .format(ImportFormat.CSV)
+                .fileName("resume.csv")
+                .spoolPath(spoolFile.toString())
+                .batchSize(2)
+                .totalBytes(Files.size(spoolFile))
+                .committedBatches(1)
+                .processedRows(2)
+                .insertedRows(2)
+                .build());
+
+        beerImportPipeline.submit(interrupted.getId());
+        ImportJobDto finished = awaitCompletion(interrupted.getId());
+
+        assertThat(finished.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(finished.getProcessedRows()).isEqualTo(5);
+        assertThat(finished.getInsertedRows()).isEqualTo(5);
+        assertThat(finished.getUpdatedRows()).isZero();
+        assertThat(beerRepository.findAll().stream()
+                .filter(beer -> beer.getUpc().startsWith("RES-"))
+                .collect(Collectors.groupingBy(Beer::getUpc, Collectors.counting())))
+                .containsOnlyKeys("RES-0001", "RES-0002", "RES-0003", "RES-0004", "RES-0005")
+                .allSatisfy((upc, count) -> assertThat(count).isEqualTo(1L));
+        assertThat(spoolFile).doesNotExist();
+    }
+
+    @Test
+    void resumesOnlyJobsWhoseLeaseHasExpired(@TempDir Path spoolDir) throws Exception {
+        String csv = """
+                beerName,beerStyle,upc,quantityOnHand,price
+                Lease One,Lager,LEASE-0001,1,1.00
+                Lease Two,Lager,LEASE-0002,2,2.00
+                """;
+        Path spoolFile = Files.writeString(spoolDir.resolve("lease.csv"), csv, StandardCharsets.UTF_8);
+        ImportJob leased = importJobRepository.save(ImportJob.builder()
+                .status(ImportJobStatus.RUNNING)
+                .format(ImportFormat.CSV)
+                .fileName("lease.csv")
+                .spoolPath(spoolFile.toString())
+                .batchSize(2)
+                .totalBytes(Files.size(spoolFile))
+                .ownerNode("other-node")
+                .leaseExpiresAt(LocalDateTime.now().plusHours(1))
+                .build());
+
+        beerImportPipeline.resumeUnfinishedJobs();
+        beerImportPipeline.submit(leased.getId());
+        Thread.sleep(500);
+
+        ImportJob untouched = importJobRepository.findById(leased.getId()).orElseThrow();
+        assertThat(untouched.getStatus()).isEqualTo(ImportJobStatus.RUNNING);
+        assertThat(untouched.getOwnerNode()).isEqualTo("other-node");
+        assertThat(beerRepository.findByUpc("LEASE-0001")).isEmpty();
+        assertThat(spoolFile).exists();
+
+        untouched.setLeaseExpiresAt(LocalDateTime.now().minusSeconds(1));
+        importJobRepository.save(untouched);
+        beerImportPipeline.resumeUnfinishedJobs();
+        ImportJobDto finished = awaitCompletion(leased.getId());
+
+        assertThat(finished.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(finished.getInsertedRows()).isEqualTo(2);
+        assertThat(importJobRepository.findById(leased.getId()).orElseThrow().getOwnerNode()).isNotEqualTo("other-node");
+    }
+
+    @Test
+    void stopsWritingOnceAnotherInstanceTookTheJobOver() {
+        ImportJob job = importJobRepository.save(ImportJob.builder()
+                .status(ImportJobStatus.QUEUED)
+                .format(ImportFormat.CSV)
+                .fileName("lost.csv")
+                .batchSize(2)
+                .build());
+        assertThat(beerImportWriter.start(job.getId())).isPresent();
+
+        ImportJob takenOver = importJobRepository.findById(job.getId()).orElseThrow();
+        takenOver.setOwnerNode("other-node");
+        importJobRepository.save(takenOver);
+
+        ParsedBatch batch = new ParsedBatch(0, 1, 10, List.of(beerDto("Lost Beer", "LOST-0001")), List.of());
+        assertThatThrownBy(() -> beerImportWriter.writeBatch(job.getId(), batch, 10))
+                .isInstanceOf(ImportLeaseLostException.class);
+        assertThat(beerRepository.findByUpc("LOST-0001")).isEmpty();
+        assertThat(importJobRepository.findById(job.getId()).orElseThrow().getCommittedBatches()).isZero();
+    }
+
+    @Test
+    void publishesUpdatedBeersWithTheirNewVersion() {
+        Beer existing = beerRepository.save(Beer.builder().beerName("Versioned").beerStyle("Lager").upc("VER-0001")
+                .price(new BigDecimal("1.00")).quantityOnHand(1).build());
+        ImportJob job = importJobRepository.save(ImportJob.builder()
+                .status(ImportJobStatus.QUEUED)
+                .format(ImportFormat.CSV)
+                .fileName("versioned.csv")
+                .batchSize(2)
+                .build());
+        beerImportWriter.start(job.getId());
+
+        beerImportWriter.writeBatch(job.getId(), new ParsedBatch(0, 1, 10,
+                List.of(beerDto("Versioned Again", "VER-0001")), List.of()), 10);
+
+        Beer stored = beerRepository.findById(existing.getId()).orElseThrow();
+        assertThat(stored.getVersion()).isGreaterThan(existing.getVersion());
+        assertThat(applicationEvents.stream(BeerChangedEvent.class)
+                .filter(event -> event.type() == ChangeType.UPDATED && event.beerId().equals(existing.getId())))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.beer().getVersion()).isEqualTo(stored.getVersion());
+                    assertThat(event.beer().getUpdateDate()).isAfter(existing.getUpdateDate());
+                });
+    }
+
+    @Test
+    void keepsValidatingBeersWrittenOutsideTheImport() {
+        Beer invalid = Beer.builder().beerName(" ").beerStyle("Lager").upc("INV-0001")
+                .price(new BigDecimal("1.00")).quantityOnHand(1).build();
+
+        assertThatThrownBy(() -> beerRepository.saveAndFlush(invalid))
+                .isInstanceOf(ConstraintViolationException.class);
+    }
+
+    @Test
+    void countsProgressInEncodedBytes() {
+        for (String line : List.of("Pale Ale", "Märzen", "Bière de Garde", "\u6ce2\u5e03", "Stout \uD83C\uDF7A")) {
+            assertThat(BeerImportPipeline.utf8Length(line)).isEqualTo(line.getBytes(StandardCharsets.UTF_8).length);
+        }
+    }
+
+    private static BeerDto beerDto(String name, String upc) {
+        return BeerDto.builder()
+                .beerName(name)
+                .beerStyle("Lager")
+                .upc(upc)
+                .price(new BigDecimal("2.00"))
+                .quantityOnHand(2)
+                .build();
+    }
+
+    private ImportJobDto awaitCompletion(UUID jobId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            ImportJobDto job = beerImportService.getImportJob(jobId);
+            if (job.getStatus() == ImportJobStatus.COMPLETED || job.getStatus() == ImportJobStatus.FAILED) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Import job " + jobId + " did not finish");
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.windsurfmvc.imports;
+
+import org.example.windsurfmvc.dtos.BeerDto;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvBeerRecordParserTest {
+
+    private final CsvBeerRecordParser parser = new CsvBeerRecordParser("upc,beerName,beerStyle,price,quantityOnHand");
+
+    @Test
+    void parsesColumnsByHeaderName() {
+        BeerDto beerDto = parser.parse("123456789,\"Hop, Skip \"\"and\"\" Jump\",IPA,9.99,12");
+
+        assertThat(beerDto.getUpc()).isEqualTo("123456789");
+        assertThat(beerDto.getBeerName()).isEqualTo("Hop, Skip \"and\" Jump");
+        assertThat(beerDto.getBeerStyle()).isEqualTo("IPA");
+        assertThat(beerDto.getPrice()).isEqualByComparingTo("9.99");
+        assertThat(beerDto.getQuantityOnHand()).isEqualTo(12);
+    }
+
+    @Test
+    void leavesMissingFieldsNullForValidation() {
+        BeerDto beerDto = parser.parse("123456789,Test Beer");
+
+        assertThat(beerDto.getBeerStyle()).isNull();
+        assertThat(beerDto.getPrice()).isNull();
+    }
+
+    @Test
+    void rejectsMalformedNumbers() {
+        assertThatThrownBy(() -> parser.parse("123456789,Test Beer,IPA,cheap,1"))
+                .isInstanceOf(ImportRowException.class)
+                .hasMessage("Invalid price: 'cheap'");
+    }
+
+    @Test
+    void rejectsHeaderWithoutRequiredColumns() {
+        assertThatThrownBy(() -> new CsvBeerRecordParser("upc,beerName"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("CSV header is missing column: beerStyle");
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.windsurfmvc.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.windsurfmvc.TestUtils;
+import org.example.windsurfmvc.dtos.BeerDto;
+import org.example.windsurfmvc.dtos.BeerView;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JsonTest
+class BeerViewSerializerTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @ParameterizedTest
+    @CsvSource(nullValues = "null", value = {
+            "0.01, 2024-01-01T00:00:00, 2024-01-01T00:00:00.000001, 0",
+            "9.99, 2024-02-29T23:59:59.999999, 2024-03-01T12:30:00.120, 1",
+            "12345.60, 1970-01-01T00:00:00, 1969-12-31T23:59:59.5, 42",
+            "99999.99, null, null, null"
+    })
+    void writesSameJsonAsBeerDto(String price, String createdDate, String updateDate, Integer version) throws Exception {
+        BeerDto beerDto = TestUtils.createTestBeerDto();
+        beerDto.setId(UUID.randomUUID());
+        beerDto.setBeerName("Quote \" and é");
+        beerDto.setPrice(new BigDecimal(price));
+        beerDto.setCreatedDate(createdDate != null ? LocalDateTime.parse(createdDate) : null);
+        beerDto.setUpdateDate(updateDate != null ? LocalDateTime.parse(updateDate) : null);
+        beerDto.setVersion(version);
+
+        BeerView beerView = new BeerView(beerDto.getId(), beerDto.getBeerName(), beerDto.getBeerStyle(),
+                beerDto.getUpc(), beerDto.getQuantityOnHand(), beerDto.getPrice(), beerDto.getCreatedDate(),
+                beerDto.getUpdateDate(), beerDto.getVersion());
+
+        assertThat(objectMapper.writeValueAsString(beerView)).isEqualTo(objectMapper.writeValueAsString(beerDto));
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.windsurfmvc.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.SoftAssertions;
+import org.example.windsurfmvc.entities.Beer;
+import org.example.windsurfmvc.repositories.BeerRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Drives each load mix against an instance started on a random port and seeded with
+ * {@code load.catalog-size} beers, then checks the p99 latency and error-rate budgets. The p99 of
+ * an operation is only checked once it has {@code load.min-samples} requests, so rare operations
+ * of a mix, like the updates of READ_HEAVY or the creates a user issues before it owns a beer
+ * to update, do not fail the run on a single slow request.
+ * <p>
+ * Excluded from the regular build, run with:
+ * <pre>
+ * ./mvnw test -Pload
+ * ./mvnw test -Pload -Dload.mix=READ_HEAVY -Dload.duration=PT30M -Dload.catalog-size=100000
+ * </pre>
+ * Reports are printed and written to {@code target/load-reports}.
+ */
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:load;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "logging.level.org.example.windsurfmvc=INFO",
+        "windsurf.warmup.enabled=false"
+})
+class BeerLoadTest {
+
+    private static final int SEED_BATCH = 1_000;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    BeerRepository beerRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private final LoadSettings settings = LoadSettings.fromSystemProperties();
+    private final List<UUID> catalog = new ArrayList<>();
+
+    @BeforeAll
+    void seedCatalog() {
+        for (int offset = 0; offset < settings.catalogSize(); offset += SEED_BATCH) {
+            List<Beer> batch = new ArrayList<>(SEED_BATCH);
+            for (int i = offset; i < Math.min(offset + SEED_BATCH, settings.catalogSize()); i++) {
+                batch.add(Beer.builder()
+                        .beerName("Seeded Beer " + i)
+                        .beerStyle(i % 2 == 0 ? "IPA" : "Lager")
+                        .upc(String.format("LS%012d", i))
+                        .quantityOnHand(i % 500)
+                        .price(BigDecimal.valueOf(100 + i % 5_000, 2))
+                        .build());
+            }
+            beerRepository.saveAll(batch).forEach(beer -> catalog.add(beer.getId()));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(LoadMix.class)
+    void staysWithinBudgets(LoadMix mix) throws Exception {
+        String selected = System.getProperty("load.mix", "");
+        assumeTrue(selected.isBlank() || Arrays.asList(selected.split(",")).contains(mix.name()),
+                "load.mix excludes " + mix);
+
+        LoadReport report = new LoadGenerator(URI.create("http://localhost:" + port), catalog, settings, objectMapper)
+                .run(mix);
+
+        String formatted = report.format();
+        System.out.println(formatted);
+        Path reportFile = Path.of("target", "load-reports", mix.name().toLowerCase() + ".txt");
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, formatted);
+
+        SoftAssertions budgets = new SoftAssertions();
+        budgets.assertThat(report.requests()).as("requests").isPositive();
+        budgets.assertThat(report.errorRate()).as("error rate of %s", mix)
+                .isLessThanOrEqualTo(settings.errorRateBudget());
+        for (LoadOperation operation : report.operations()) {
+            if (report.count(operation) < settings.minSamples()) {
+                System.out.printf("p99 of %s in %s not checked, %d of %d samples%n",
+                        operation, mix, report.count(operation), settings.minSamples());
+                continue;
+            }
+            budgets.assertThat(report.p99Micros(operation) / 1000.0).as("p99 ms of %s in %s", operation, mix)
+                    .isLessThanOrEqualTo((double) settings.p99BudgetMillis());
+        }
+        budgets.assertAll();
+    }
+}
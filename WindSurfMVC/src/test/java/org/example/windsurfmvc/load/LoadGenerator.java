@@ -0,0 +1,189 @@
+package org.example.windsurfmvc.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Closed-loop HTTP load generator: a fixed number of virtual users issue requests of a mix
+ * back to back against a running instance. Requests made during the warm-up are not measured.
+ */
+final class LoadGenerator {
+
+    private static final String BOUNDARY = "windsurf-load-boundary";
+
+    private final URI baseUri;
+    private final List<UUID> catalog;
+    private final LoadSettings settings;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final AtomicInteger importSequence = new AtomicInteger();
+
+    LoadGenerator(URI baseUri, List<UUID> catalog, LoadSettings settings, ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.catalog = catalog;
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    LoadReport run(LoadMix mix) throws Exception {
+        LoadReport report = new LoadReport(mix);
+        long measureStart = System.nanoTime() + settings.warmup().toNanos();
+        long deadline = measureStart + settings.duration().toNanos();
+        try (ExecutorService users = Executors.newFixedThreadPool(settings.concurrency())) {
+            List<Future<?>> running = new ArrayList<>();
+            for (int user = 0; user < settings.concurrency(); user++) {
+                int userId = user;
+                running.add(users.submit(() -> runUser(userId, mix, report, measureStart, deadline)));
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+        }
+        report.finish(settings.duration());
+        return report;
+    }
+
+    private void runUser(int userId, LoadMix mix, LoadReport report, long measureStart, long deadline) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Deque<OwnBeer> ownBeers = new ArrayDeque<>();
+        int created = 0;
+        long now;
+        while ((now = System.nanoTime()) < deadline) {
+            LoadOperation operation = mix.next(random);
+            if ((operation == LoadOperation.UPDATE_BEER || operation == LoadOperation.DELETE_BEER) && ownBeers.isEmpty()) {
+                operation = LoadOperation.CREATE_BEER;
+            }
+            long start = now;
+            try {
+                HttpResponse<byte[]> response = switch (operation) {
+                    case GET_BEER -> send(HttpRequest.newBuilder(uri("/api/v1/beers/" + pickBeer(random))).GET());
+                    case LIST_PAGE -> send(HttpRequest.newBuilder(uri("/api/v1/beers?page="
+                            + random.nextInt(Math.max(1, catalog.size() / settings.pageSize()))
+                            + "&size=" + settings.pageSize())).GET());
+                    case CREATE_BEER -> send(jsonRequest("/api/v1/beers")
+                            .POST(body(beerJson(String.format("LD%02d%012d", userId, created++), null, random))));
+                    case UPDATE_BEER -> {
+                        OwnBeer beer = ownBeers.peekFirst();
+                        yield send(jsonRequest("/api/v1/beers/" + beer.id())
+                                .PUT(body(beerJson(beer.upc(), beer.version(), random))));
+                    }
+                    case DELETE_BEER -> send(HttpRequest.newBuilder(uri("/api/v1/beers/" + ownBeers.peekLast().id())).DELETE());
+                    case IMPORT_CATALOG -> send(HttpRequest.newBuilder(uri("/api/v1/beers/imports"))
+                            .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(importFile(random))));
+                };
+                long nanos = System.nanoTime() - start;
+                if (response.statusCode() / 100 != 2) {
+                    if (start >= measureStart) {
+                        report.recordError(operation, nanos, "HTTP " + response.statusCode() + " "
+                                + new String(response.body(), StandardCharsets.UTF_8));
+                    }
+                    continue;
+                }
+                track(operation, response, ownBeers);
+                if (start >= measureStart) {
+                    report.recordSuccess(operation, nanos);
+                }
+            } catch (IOException e) {
+                if (start >= measureStart) {
+                    report.recordError(operation, System.nanoTime() - start, e.toString());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void track(LoadOperation operation, HttpResponse<byte[]> response, Deque<OwnBeer> ownBeers)
+            throws IOException {
+        switch (operation) {
+            case CREATE_BEER -> ownBeers.addFirst(OwnBeer.from(objectMapper.readTree(response.body())));
+            case UPDATE_BEER -> {
+                ownBeers.pollFirst();
+                ownBeers.addLast(OwnBeer.from(objectMapper.readTree(response.body())));
+            }
+            case DELETE_BEER -> ownBeers.pollLast();
+            default -> {
+            }
+        }
+    }
+
+    private UUID pickBeer(ThreadLocalRandom random) {
+        int hot = Math.max(1, (int) (catalog.size() * settings.hotFraction()));
+        int index = random.nextInt(10) < 8 ? random.nextInt(hot) : random.nextInt(catalog.size());
+        return catalog.get(index);
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private URI uri(String path) {
+        return baseUri.resolve(path);
+    }
+
+    private HttpRequest.Builder jsonRequest(String path) {
+        return HttpRequest.newBuilder(uri(path)).header("Content-Type", "application/json");
+    }
+
+    private static HttpRequest.BodyPublisher body(String json) {
+        return HttpRequest.BodyPublishers.ofString(json);
+    }
+
+    private static String beerJson(String upc, Integer version, ThreadLocalRandom random) {
+        return "{\"beerName\":\"Load Beer " + upc + "\",\"beerStyle\":\"IPA\",\"upc\":\"" + upc
+                + "\",\"quantityOnHand\":" + random.nextInt(1_000)
+                + ",\"price\":" + (1 + random.nextInt(50)) + "." + (10 + random.nextInt(90))
+                + (version != null ? ",\"version\":" + version : "") + "}";
+    }
+
+    private byte[] importFile(ThreadLocalRandom random) {
+        int file = importSequence.incrementAndGet();
+        StringBuilder csv = new StringBuilder("beerName,beerStyle,upc,quantityOnHand,price\n");
+        for (int row = 0; row < settings.importRows(); row++) {
+            csv.append("Imported Beer ").append(row).append(",Lager,")
+                    .append(String.format("LI%06d%08d", file, row)).append(',')
+                    .append(random.nextInt(1_000)).append(',')
+                    .append(1 + random.nextInt(50)).append(".50\n");
+        }
+        ByteArrayOutputStream body = new ByteArrayOutputStream(csv.length() + 256);
+        body.writeBytes(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"load.csv\"\r\n"
+                + "Content-Type: text/csv\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(csv.toString().getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+
+    private record OwnBeer(UUID id, String upc, Integer version) {
+
+        static OwnBeer from(JsonNode beer) {
+            return new OwnBeer(UUID.fromString(beer.get("id").asText()), beer.get("upc").asText(),
+                    beer.get("version").isNull() ? null : beer.get("version").asInt());
+        }
+    }
+}
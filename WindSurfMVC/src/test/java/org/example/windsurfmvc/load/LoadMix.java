@@ -0,0 +1,51 @@
+package org.example.windsurfmvc.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted request mixes modelled on the traffic the service sees
+ */
+enum LoadMix {
+
+    READ_HEAVY(Map.of(
+            LoadOperation.GET_BEER, 90,
+            LoadOperation.LIST_PAGE, 8,
+            LoadOperation.UPDATE_BEER, 2)),
+    WRITE_HEAVY(Map.of(
+            LoadOperation.CREATE_BEER, 40,
+            LoadOperation.UPDATE_BEER, 40,
+            LoadOperation.DELETE_BEER, 10,
+            LoadOperation.GET_BEER, 10)),
+    BULK_IMPORT(Map.of(
+            LoadOperation.IMPORT_CATALOG, 2,
+            LoadOperation.GET_BEER, 83,
+            LoadOperation.LIST_PAGE, 15)),
+    LIST_PAGINATION(Map.of(
+            LoadOperation.LIST_PAGE, 100));
+
+    private final LoadOperation[] operations;
+    private final int[] cumulativeWeights;
+
+    LoadMix(Map<LoadOperation, Integer> weights) {
+        Map<LoadOperation, Integer> ordered = new EnumMap<>(weights);
+        this.operations = ordered.keySet().toArray(LoadOperation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += ordered.get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    LoadOperation next(RandomGenerator random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Weights exhausted");
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.windsurfmvc.load;
+
+/**
+ * Requests the load generator can issue
+ */
+enum LoadOperation {
+    GET_BEER,
+    LIST_PAGE,
+    CREATE_BEER,
+    UPDATE_BEER,
+    DELETE_BEER,
+    IMPORT_CATALOG
+}
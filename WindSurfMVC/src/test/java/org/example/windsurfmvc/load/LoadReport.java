@@ -0,0 +1,108 @@
+package org.example.windsurfmvc.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation throughput, latency and errors of a load run
+ */
+final class LoadReport {
+
+    private static final int MAX_SAMPLED_ERRORS = 20;
+
+    private final LoadMix mix;
+    private final Map<LoadOperation, LatencyHistogram> latencies = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, LongAdder> errors = new EnumMap<>(LoadOperation.class);
+    private final Queue<String> sampledErrors = new ConcurrentLinkedQueue<>();
+    private final LongAdder sampledErrorCount = new LongAdder();
+    private volatile Duration elapsed = Duration.ZERO;
+
+    LoadReport(LoadMix mix) {
+        this.mix = mix;
+        for (LoadOperation operation : LoadOperation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    void recordSuccess(LoadOperation operation, long nanos) {
+        latencies.get(operation).recordNanos(nanos);
+    }
+
+    void recordError(LoadOperation operation, long nanos, String message) {
+        latencies.get(operation).recordNanos(nanos);
+        errors.get(operation).increment();
+        sampledErrorCount.increment();
+        if (sampledErrorCount.sum() <= MAX_SAMPLED_ERRORS) {
+            sampledErrors.add(operation + ": " + message);
+        }
+    }
+
+    void finish(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    long requests() {
+        return latencies.values().stream().mapToLong(LatencyHistogram::count).sum();
+    }
+
+    long errors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    double errorRate() {
+        long requests = requests();
+        return requests == 0 ? 0 : (double) errors() / requests;
+    }
+
+    double throughput() {
+        return requests() / Math.max(0.001, elapsed.toMillis() / 1000.0);
+    }
+
+    /**
+     * @return the operations issued during the run
+     */
+    List<LoadOperation> operations() {
+        return latencies.entrySet().stream()
+                .filter(entry -> entry.getValue().count() > 0)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    long count(LoadOperation operation) {
+        return latencies.get(operation).count();
+    }
+
+    long p99Micros(LoadOperation operation) {
+        return latencies.get(operation).percentileMicros(99);
+    }
+
+    String format() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Load mix %s: %d requests in %.1fs, %.1f req/s, %d errors (%.3f%%)%n",
+                mix, requests(), elapsed.toMillis() / 1000.0, throughput(), errors(), errorRate() * 100));
+        report.append(String.format("%-16s %10s %10s %10s %10s %10s %10s %8s%n",
+                "operation", "count", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "errors"));
+        for (LoadOperation operation : operations()) {
+            LatencyHistogram histogram = latencies.get(operation);
+            report.append(String.format("%-16s %10d %10.1f %10.2f %10.2f %10.2f %10.2f %8d%n",
+                    operation,
+                    histogram.count(),
+                    histogram.count() / Math.max(0.001, elapsed.toMillis() / 1000.0),
+                    histogram.percentileMicros(50) / 1000.0,
+                    histogram.percentileMicros(90) / 1000.0,
+                    histogram.percentileMicros(99) / 1000.0,
+                    histogram.maxMicros() / 1000.0,
+                    errors.get(operation).sum()));
+        }
+        for (String error : sampledErrors) {
+            report.append("  ").append(error).append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+}
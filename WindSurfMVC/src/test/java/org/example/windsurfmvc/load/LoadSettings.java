@@ -0,0 +1,47 @@
+package org.example.windsurfmvc.load;
+
+import java.time.Duration;
+
+/**
+ * Load test parameters, read from system properties so a run can be tuned from the Maven
+ * command line, e.g. {@code -Dload.duration=PT30M} for a soak run
+ *
+ * @param catalogSize     number of beers seeded before the run
+ * @param concurrency     number of concurrent virtual users
+ * @param warmup          time before measurements start
+ * @param duration        measured run time
+ * @param pageSize        page size of list requests
+ * @param importRows      rows per imported catalog file
+ * @param hotFraction     share of the catalog that receives most single-beer reads
+ * @param p99BudgetMillis highest acceptable p99 latency of any operation
+ * @param minSamples      fewest requests an operation needs before its p99 is checked, below
+ *                        that the p99 is just the slowest request
+ * @param errorRateBudget highest acceptable share of failed requests
+ */
+record LoadSettings(
+        int catalogSize,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        int pageSize,
+        int importRows,
+        double hotFraction,
+        long p99BudgetMillis,
+        int minSamples,
+        double errorRateBudget
+) {
+
+    static LoadSettings fromSystemProperties() {
+        return new LoadSettings(
+                Integer.getInteger("load.catalog-size", 10_000),
+                Integer.getInteger("load.concurrency", 16),
+                Duration.parse(System.getProperty("load.warmup", "PT10S")),
+                Duration.parse(System.getProperty("load.duration", "PT30S")),
+                Integer.getInteger("load.page-size", 50),
+                Integer.getInteger("load.import-rows", 1_000),
+                Double.parseDouble(System.getProperty("load.hot-fraction", "0.01")),
+                Long.getLong("load.p99-budget-ms", 250),
+                Integer.getInteger("load.min-samples", 100),
+                Double.parseDouble(System.getProperty("load.error-rate-budget", "0.001")));
+    }
+}
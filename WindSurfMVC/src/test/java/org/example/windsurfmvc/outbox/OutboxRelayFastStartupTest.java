@@ -0,0 +1,56 @@
+package org.example.windsurfmvc.outbox;
+
+import org.example.windsurfmvc.TestUtils;
+import org.example.windsurfmvc.dtos.BeerDto;
+import org.example.windsurfmvc.services.BeerService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the relay on its schedule with lazy initialization, the test must not inject the relay itself
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-fast-startup",
+        "windsurf.warmup.enabled=false",
+        "windsurf.outbox.sink=file",
+        "windsurf.outbox.poll-interval=100ms"
+})
+@ActiveProfiles("fast-startup")
+class OutboxRelayFastStartupTest {
+
+    @TempDir
+    static Path outboxDir;
+
+    @Autowired
+    BeerService beerService;
+
+    @DynamicPropertySource
+    static void outboxFile(DynamicPropertyRegistry registry) {
+        registry.add("windsurf.outbox.file", () -> outboxDir.resolve("beer-events.ndjson").toString());
+    }
+
+    @Test
+    void relaysOnScheduleUnderLazyInitialization() throws Exception {
+        BeerDto beerDto = TestUtils.createTestBeerDto();
+        beerDto.setId(null);
+        beerDto.setVersion(null);
+        beerDto.setUpc("OUT-LAZY-1");
+        String id = beerService.saveBeer(beerDto).getId().toString();
+
+        Path eventsFile = outboxDir.resolve("beer-events.ndjson");
+        for (int i = 0; i < 100 && !(Files.exists(eventsFile) && Files.readString(eventsFile).contains(id)); i++) {
+            Thread.sleep(100);
+        }
+        assertThat(eventsFile).content().contains(id);
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.windsurfmvc.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.windsurfmvc.TestUtils;
+import org.example.windsurfmvc.dtos.BeerDto;
+import org.example.windsurfmvc.repositories.OutboxEventRepository;
+import org.example.windsurfmvc.repositories.OutboxRelayLockRepository;
+import org.example.windsurfmvc.services.BeerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox",
+        "windsurf.warmup.enabled=false",
+        "windsurf.outbox.sink=file",
+        "windsurf.outbox.poll-interval=1h"
+})
+class OutboxRelayTest {
+
+    @TempDir
+    static Path outboxDir;
+
+    @Autowired
+    BeerService beerService;
+
+    @Autowired
+    OutboxRelay outboxRelay;
+
+    @Autowired
+    OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    OutboxRelayLockRepository outboxRelayLockRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void outboxFile(DynamicPropertyRegistry registry) {
+        registry.add("windsurf.outbox.file", () -> eventsFile().toString());
+    }
+
+    @BeforeEach
+    void drain() throws IOException {
+        outboxRelay.relay();
+        Files.deleteIfExists(eventsFile());
+    }
+
+    @Test
+    void relaysChangesInOrderAndEmptiesTheOutbox() throws Exception {
+        BeerDto beerDto = TestUtils.createTestBeerDto();
+        beerDto.setId(null);
+        beerDto.setVersion(null);
+        beerDto.setUpc("OUT-0001");
+        UUID id = beerService.saveBeer(beerDto).getId();
+        beerDto.setBeerName("Relayed Beer");
+        beerService.updateBeer(id, beerDto);
+        beerService.deleteBeer(id);
+
+        assertThat(outboxEventRepository.count()).isEqualTo(3);
+        assertThat(outboxRelay.relay()).isEqualTo(3);
+        assertThat(outboxEventRepository.count()).isZero();
+
+        List<JsonNode> events = new ArrayList<>();
+        for (String line : Files.readAllLines(eventsFile())) {
+            events.add(objectMapper.readTree(line));
+        }
+        assertThat(events).extracting(event -> event.get("type").asText())
+                .containsExactly("CREATED", "UPDATED", "DELETED");
+        assertThat(events).extracting(event -> event.get("beerId").asText())
+                .containsOnly(id.toString());
+        assertThat(events.get(1).get("id").asLong()).isGreaterThan(events.get(0).get("id").asLong());
+        assertThat(events.get(1).get("beer").get("beerName").asText()).isEqualTo("Relayed Beer");
+    }
+
+    @Test
+    void keepsEventsWhenTheSinkFails() {
+        BeerDto beerDto = TestUtils.createTestBeerDto();
+        beerDto.setId(null);
+        beerDto.setVersion(null);
+        beerDto.setUpc("OUT-0002");
+        beerService.saveBeer(beerDto);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OutboxRelay failingRelay = new OutboxRelay(outboxEventRepository, outboxRelayLockRepository,
+                transactionManager, events -> {
+                    throw new IOException("Sink unavailable");
+                }, meterRegistry, "failing-node", true, 500);
+
+        assertThat(failingRelay.relay()).isZero();
+        assertThat(outboxEventRepository.count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("windsurf.outbox.failures").count()).isEqualTo(1);
+
+        assertThat(outboxRelay.relay()).isEqualTo(1);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void skipsThePollWhileAnotherInstanceHoldsTheLock() throws Exception {
+        BeerDto beerDto = TestUtils.createTestBeerDto();
+        beerDto.setId(null);
+        beerDto.setVersion(null);
+        beerDto.setUpc("OUT-0003");
+        beerService.saveBeer(beerDto);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> otherInstance = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    assertThat(outboxRelayLockRepository.tryLock(OutboxRelay.LOCK_NAME)).isPresent();
+                    locked.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        try {
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(outboxRelay.relay()).isZero();
+            assertThat(outboxEventRepository.count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            otherInstance.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(outboxRelay.relay()).isEqualTo(1);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    private static Path eventsFile() {
+        return outboxDir.resolve("beer-events.ndjson");
+    }
+}
@@ -0,0 +1,187 @@
+package org.example.windsurfmvc.querybudget;
+
+import org.example.windsurfmvc.cache.CacheNames;
+import org.example.windsurfmvc.entities.Beer;
+import org.example.windsurfmvc.exceptions.QueryBudgetExceededException;
+import org.example.windsurfmvc.repositories.BeerRepository;
+import org.example.windsurfmvc.services.BeerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:querybudget",
+        "windsurf.warmup.enabled=false",
+        "windsurf.query-budget.request.max-rows=150"
+})
+@AutoConfigureMockMvc
+class QueryBudgetTest {
+
+    private static final int CATALOG_SIZE = 200;
+
+    @Autowired
+    BeerService beerService;
+
+    @Autowired
+    BeerRepository beerRepository;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    QueryBudgetInterceptor queryBudgetInterceptor;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private final List<UUID> ids = new ArrayList<>();
+
+    @BeforeEach
+    void seedCatalog() {
+        if (beerRepository.count() == 0) {
+            List<Beer> beers = new ArrayList<>();
+            for (int i = 0; i < CATALOG_SIZE; i++) {
+                beers.add(Beer.builder()
+                        .beerName("Budget Beer " + i)
+                        .beerStyle("IPA")
+                        .upc(String.format("QB%08d", i))
+                        .quantityOnHand(i)
+                        .price(new BigDecimal("4.99"))
+                        .build());
+            }
+            beerRepository.saveAll(beers);
+        }
+        beerRepository.findAll().forEach(beer -> ids.add(beer.getId()));
+        cacheManager.getCache(CacheNames.BEERS).clear();
+    }
+
+    @Test
+    void getBeerByIdIssuesOneQuery() {
+        try (QueryScope scope = QueryScope.open("test")) {
+            beerService.getBeerById(ids.get(0));
+            assertThat(scope.getStatements()).isEqualTo(1);
+            assertThat(scope.getRows()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void cachedGetBeerByIdIssuesNoQuery() {
+        beerService.getBeerById(ids.get(0));
+        try (QueryScope scope = QueryScope.open("test")) {
+            beerService.getBeerById(ids.get(0));
+            assertThat(scope.getStatements()).isZero();
+        }
+    }
+
+    @Test
+    void listPageReadsAtMostPageSizeRows() {
+        try (QueryScope scope = QueryScope.open("test")) {
+            assertThat(beerService.getBeerViews(PageRequest.of(1, 10))).hasSize(10);
+            assertThat(scope.getStatements()).isEqualTo(1);
+            // One extra row tells whether another page follows
+            assertThat(scope.getRows()).isLessThanOrEqualTo(11);
+        }
+    }
+
+    @Test
+    void reportsSlowestStatementsWithCallSite() {
+        try (QueryScope scope = QueryScope.open("test")) {
+            beerService.getBeerById(ids.get(1));
+            assertThat(scope.describe())
+                    .startsWith("test: 1 statements, 1 rows")
+                    .contains("select")
+                    .contains("BeerServiceImpl.getBeerById");
+        }
+    }
+
+    @Test
+    void listWithoutPagingReadsOneDefaultPage() throws Exception {
+        mockMvc.perform(get("/api/v1/beers"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(100));
+    }
+
+    @Test
+    void failsRequestsReadingMoreRowsThanTheBudget() {
+        assertThatThrownBy(() -> mockMvc.perform(get("/api/v1/beers").param("size", "200")))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("GET /api/v1/beers: 1 statements, " + CATALOG_SIZE + " rows");
+    }
+
+    @Test
+    void failsOverBudgetRequestsBeforeTheResponseIsCommitted() {
+        ResponseEntity<String> withinBudget = restTemplate.getForEntity("/api/v1/beers?size=10", String.class);
+        assertThat(withinBudget.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(withinBudget.getBody()).contains("Budget Beer");
+
+        ResponseEntity<String> overBudget = restTemplate.getForEntity("/api/v1/beers?size=200", String.class);
+        assertThat(overBudget.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(overBudget.getBody()).doesNotContain("Budget Beer");
+    }
+
+    @Test
+    void rollsBackWritesOverTheBudget() {
+        // Ordered like the application's advisors: the budget outside the transaction
+        ProxyFactory proxyFactory = new ProxyFactory(new BudgetedWriter(beerRepository));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(queryBudgetInterceptor);
+        proxyFactory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+        BudgetedWriter writer = (BudgetedWriter) proxyFactory.getProxy();
+
+        assertThatThrownBy(() -> writer.save("QBROLLBACK"))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("BudgetedWriter.save: 1 statements");
+        assertThat(beerRepository.findAll()).noneMatch(beer -> "QBROLLBACK".equals(beer.getUpc()));
+    }
+
+    static class BudgetedWriter {
+
+        private final BeerRepository beerRepository;
+
+        BudgetedWriter(BeerRepository beerRepository) {
+            this.beerRepository = beerRepository;
+        }
+
+        @Transactional
+        @QueryBudget(statements = 0)
+        public void save(String upc) {
+            beerRepository.save(Beer.builder()
+                    .beerName("Over Budget Beer")
+                    .beerStyle("IPA")
+                    .upc(upc)
+                    .quantityOnHand(1)
+                    .price(new BigDecimal("4.99"))
+                    .build());
+        }
+    }
+}
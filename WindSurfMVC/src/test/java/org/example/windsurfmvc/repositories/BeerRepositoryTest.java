@@ -1,9 +1,12 @@
 package org.example.windsurfmvc.repositories;
 
+import org.example.windsurfmvc.dtos.BeerView;
 import org.example.windsurfmvc.entities.Beer;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 
 import java.math.BigDecimal;
 import java.util.Optional;
@@ -76,4 +79,25 @@ class BeerRepositoryTest {
         
         assertThat(beerRepository.findById(beer.getId())).isEmpty();
     }
+
+    @Test
+    void testFindAllViews() {
+        for (int i = 0; i < 3; i++) {
+            beerRepository.save(Beer.builder()
+                    .beerName("View " + i)
+                    .beerStyle("Ale")
+                    .upc("VIEW-00" + i)
+                    .price(new BigDecimal("4.5" + i))
+                    .quantityOnHand(i)
+                    .build());
+        }
+        beerRepository.flush();
+
+        Slice<BeerView> page = beerRepository.findAllViews(PageRequest.of(0, 2));
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.getContent().get(0).priceCents()).isBetween(450L, 452L);
+        assertThat(page.getContent().get(0).createdEpochMicros()).isNotEqualTo(BeerView.NO_TIMESTAMP);
+    }
 }
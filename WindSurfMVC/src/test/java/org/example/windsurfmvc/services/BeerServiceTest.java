@@ -2,7 +2,10 @@ package org.example.windsurfmvc.services;
 
 import org.example.windsurfmvc.TestUtils;
 import org.example.windsurfmvc.dtos.BeerDto;
+import org.example.windsurfmvc.dtos.BeerView;
 import org.example.windsurfmvc.entities.Beer;
+import org.example.windsurfmvc.events.BeerChangedEvent;
+import org.example.windsurfmvc.events.BeerChangedEvent.ChangeType;
 import org.example.windsurfmvc.mappers.BeerMapper;
 import org.example.windsurfmvc.repositories.BeerRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,8 +16,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,6 +36,9 @@ class BeerServiceTest {
     @Mock
     private BeerRepository beerRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Spy
     private BeerMapper beerMapper = Mappers.getMapper(BeerMapper.class);
 
@@ -48,17 +57,20 @@ class BeerServiceTest {
     }
 
     @Test
-    void getAllBeers() {
+    void getBeerViews() {
         // given
-        when(beerRepository.findAll()).thenReturn(Arrays.asList(testBeer));
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        when(beerRepository.findAllViews(pageRequest))
+                .thenReturn(new SliceImpl<>(List.of(TestUtils.createTestBeerView()), pageRequest, false));
 
         // when
-        List<BeerDto> beers = beerService.getAllBeers();
+        Slice<BeerView> beers = beerService.getBeerViews(pageRequest);
 
         // then
-        assertThat(beers).hasSize(1);
-        assertThat(beers.get(0).getBeerName()).isEqualTo(TestUtils.TEST_BEER_NAME);
-        verify(beerRepository, times(1)).findAll();
+        assertThat(beers.getContent()).hasSize(1);
+        assertThat(beers.getContent().get(0).priceCents()).isEqualTo(999);
+        assertThat(beers.hasNext()).isFalse();
+        verify(beerRepository, never()).findAll();
     }
 
     @Test
@@ -100,6 +112,8 @@ class BeerServiceTest {
         assertThat(savedBeer).isNotNull();
         assertThat(savedBeer.getBeerName()).isEqualTo(TestUtils.TEST_BEER_NAME);
         verify(beerRepository, times(1)).save(any(Beer.class));
+        verify(eventPublisher, times(1)).publishEvent(
+                new BeerChangedEvent(ChangeType.CREATED, TestUtils.TEST_BEER_ID, savedBeer));
     }
 
     @Test
@@ -117,6 +131,8 @@ class BeerServiceTest {
         assertThat(result.getPrice()).isEqualByComparingTo("12.99");
         verify(beerRepository, times(1)).findById(TestUtils.TEST_BEER_ID);
         verify(beerRepository, times(1)).save(any(Beer.class));
+        verify(eventPublisher, times(1)).publishEvent(
+                new BeerChangedEvent(ChangeType.UPDATED, TestUtils.TEST_BEER_ID, result));
     }
 
     @Test
@@ -131,6 +147,7 @@ class BeerServiceTest {
                 .hasMessage("Beer not found with id: " + notFoundId);
         verify(beerRepository, times(1)).findById(notFoundId);
         verify(beerRepository, never()).save(any(Beer.class));
+        verifyNoInteractions(eventPublisher);
     }
 
 //    @Test
@@ -0,0 +1,117 @@
+package org.example.windsurfmvc.tracking;
+
+import org.example.windsurfmvc.dtos.HotKeyDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HotKeyTrackerTest {
+
+    private HotKeyTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new HotKeyTracker(2, Duration.ofSeconds(10), 30, 4, 1024, "");
+    }
+
+    @Test
+    void countMinSketchNeverUndercounts() {
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+        for (long key = 0; key < 1000; key++) {
+            sketch.add(key);
+        }
+        sketch.add(42);
+
+        assertThat(sketch.estimate(42)).isGreaterThanOrEqualTo(2);
+        sketch.clear();
+        assertThat(sketch.estimate(42)).isZero();
+    }
+
+    @Test
+    void topKeysOrdersByAccessCount() {
+        UUID hot = UUID.randomUUID();
+        UUID warm = UUID.randomUUID();
+        for (int i = 0; i < 100; i++) {
+            tracker.record(hot);
+        }
+        for (int i = 0; i < 10; i++) {
+            tracker.record(warm);
+        }
+        tracker.record(UUID.randomUUID());
+
+        List<HotKeyDto> top = tracker.topKeys(2);
+
+        assertThat(top).extracting(HotKeyDto::id).containsExactly(hot, warm);
+        assertThat(top.get(0).lastMinuteCount()).isGreaterThanOrEqualTo(100);
+        assertThat(top.get(0).lastMinuteRate()).isPositive();
+    }
+
+    @Test
+    void topKeysRejectsNonPositiveLimits() {
+        assertThatThrownBy(() -> tracker.topKeys(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tracker.topKeys(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rotationKeepsCountsWithinTheWindow() {
+        UUID hot = UUID.randomUUID();
+        for (int i = 0; i < 50; i++) {
+            tracker.record(hot);
+        }
+
+        tracker.rotate();
+
+        assertThat(tracker.topKeys(1)).extracting(HotKeyDto::id).containsExactly(hot);
+    }
+
+    @Test
+    void hotKeyDisplacesColdCandidates() {
+        for (int i = 0; i < 8; i++) {
+            tracker.record(UUID.randomUUID());
+        }
+        tracker.rotate();
+        UUID hot = UUID.randomUUID();
+        for (int i = 0; i < 20; i++) {
+            tracker.record(hot);
+        }
+
+        assertThat(tracker.topKeys(1)).extracting(HotKeyDto::id).containsExactly(hot);
+    }
+
+    @Test
+    void candidateSetStaysBoundedWithinOneBucket() {
+        UUID hot = UUID.randomUUID();
+        for (int i = 0; i < 20; i++) {
+            tracker.record(hot);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            tracker.record(UUID.randomUUID());
+        }
+
+        assertThat(tracker.candidateCount()).isLessThanOrEqualTo(8);
+        assertThat(tracker.topKeys(1)).extracting(HotKeyDto::id).containsExactly(hot);
+    }
+
+    @Test
+    void persistsTopKeysToTheConfiguredFile(@TempDir Path tempDir) throws Exception {
+        Path hotKeysFile = tempDir.resolve("hot-keys.txt");
+        HotKeyTracker persisting = new HotKeyTracker(2, Duration.ofSeconds(10), 30, 4, 1024, hotKeysFile.toString());
+        UUID hot = UUID.randomUUID();
+        for (int i = 0; i < 10; i++) {
+            persisting.record(hot);
+        }
+
+        persisting.persistHotKeys();
+
+        assertThat(Files.readAllLines(hotKeysFile)).containsExactly(hot.toString());
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.windsurfmvc.validation;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.example.windsurfmvc.TestUtils;
+import org.example.windsurfmvc.dtos.BeerDto;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BeerDtoValidatorTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator reflectiveValidator;
+
+    private final BeerDtoValidator beerDtoValidator = new BeerDtoValidator();
+
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        reflectiveValidator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    static Stream<BeerDto> beers() {
+        return Stream.of(
+                TestUtils.createTestBeerDto(),
+                new BeerDto(),
+                withName(null), withName(""), withName(" "), withName("   "), withName("A"), withName("x".repeat(51)),
+                withStyle(null), withStyle(" "), withStyle("x".repeat(51)),
+                withUpc(null), withUpc("12345"), withUpc("      "), withUpc("x".repeat(21)),
+                withQuantity(null), withQuantity(-1), withQuantity(0),
+                withPrice(null), withPrice("0"), withPrice("-1.50"), withPrice("0.001"), withPrice("9.990"),
+                withPrice("99999.99"), withPrice("100000"), withPrice("-100000.001"), withPrice("1E+3"), withPrice("1E+5")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("beers")
+    void matchesReflectiveValidation(BeerDto beerDto) {
+        assertThat(beerDtoValidator.validate(beerDto))
+                .map(FieldViolation::toString)
+                .containsExactlyInAnyOrderElementsOf(reflectiveValidator.validate(beerDto).stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .toList());
+    }
+
+    private static BeerDto withName(String beerName) {
+        BeerDto beerDto = TestUtils.createTestBeerDto();
+        beerDto.setBeerName(beerName);
+        return beerDto;
+    }
+
+    private static BeerDto withStyle(String beerStyle) {
+        BeerDto beerDto = TestUtils.createTestBeerDto();
+        beerDto.setBeerStyle(beerStyle);
+        return beerDto;
+    }
+
+    private static BeerDto withUpc(String upc) {
+        BeerDto beerDto = TestUtils.createTestBeerDto();
+        beerDto.setUpc(upc);
+        return beerDto;
+    }
+
+    private static BeerDto withQuantity(Integer quantityOnHand) {
+        BeerDto beerDto = TestUtils.createTestBeerDto();
+        beerDto.setQuantityOnHand(quantityOnHand);
+        return beerDto;
+    }
+
+    private static BeerDto withPrice(String price) {
+        BeerDto beerDto = TestUtils.createTestBeerDto();
+        beerDto.setPrice(price != null ? new BigDecimal(price) : null);
+        return beerDto;
+    }
+}
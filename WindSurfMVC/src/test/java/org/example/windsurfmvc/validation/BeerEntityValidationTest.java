@@ -0,0 +1,53 @@
+package org.example.windsurfmvc.validation;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.example.windsurfmvc.entities.Beer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BeerEntityValidationTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void validatesBeersByDefault() {
+        assertThat(validator.validate(invalidBeer()))
+                .extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactlyInAnyOrder("beerName", "quantityOnHand", "price");
+    }
+
+    @Test
+    void skipsBeersFlushedByTheImportWriter() {
+        assertThat(BeerEntityValidation.skipWhile(() -> validator.validate(invalidBeer()))).isEmpty();
+        assertThat(validator.validate(invalidBeer())).isNotEmpty();
+    }
+
+    private static Beer invalidBeer() {
+        return Beer.builder()
+                .beerName(" ")
+                .beerStyle("Lager")
+                .upc("ENT-0001")
+                .quantityOnHand(-1)
+                .price(BigDecimal.ZERO)
+                .build();
+    }
+}